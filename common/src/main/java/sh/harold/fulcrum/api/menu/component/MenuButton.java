@@ -23,6 +23,7 @@ import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Represents an interactive button in a menu with click handlers and cooldown support.
@@ -152,9 +153,11 @@ public class MenuButton implements MenuItem {
     private final Map<ClickType, Consumer<Player>> clickHandlers;
     private final Duration cooldown;
     private MenuButton(Builder builder) {
+        MenuItemCache.Entry cached = builder.cached;
         this.slot = builder.slot;
-        this.name = builder.name;
-        this.lore = new ArrayList<>(builder.lore);
+        this.pendingDisplayItem = builder.displaySupplier;
+        this.name = cached != null ? cached.name() : builder.name;
+        this.lore = new ArrayList<>(cached != null ? cached.lore() : builder.lore);
         this.clickHandlers = new HashMap<>(builder.clickHandlers);
         this.cooldown = builder.cooldown;
         this.cooldownGroup = builder.cooldownGroup;
@@ -167,6 +170,14 @@ public class MenuButton implements MenuItem {
         this.confirmationWindow = builder.confirmationWindow;
         this.confirmationPrompt = builder.confirmationPrompt != null ? builder.confirmationPrompt : defaultConfirmationPrompt();
 
+        if (cached != null) {
+            // Cached stack carries meta and click prompt; glow is per build so it reaches the confirmation item too
+            this.displayItem = cached.displayItem().clone();
+            rebuildConfirmationDisplayItem();
+            applyGlowIfEnabled();
+            return;
+        }
+
         // Add click prompt if there are handlers and it's not already there
         if (!clickHandlers.isEmpty() && !builder.skipClickPrompt) {
             if (!lore.isEmpty()) {
@@ -177,9 +188,16 @@ public class MenuButton implements MenuItem {
         }
 
         // Build the ItemStack
-        this.displayItem = new ItemStack(builder.material, builder.amount);
+        this.displayItem = MenuItemCache.baseStack(builder.material, builder.amount, builder.skullOwner);
         updateItemMeta();
+        if (builder.cacheKey != null) {
+            MenuItemCache.store(MenuButton.class, builder.cacheKey, builder.cacheState, builder.skullOwner, name, lore, displayItem);
+        }
         rebuildConfirmationDisplayItem();
+        applyGlowIfEnabled();
+    }
+
+    private void applyGlowIfEnabled() {
         if (glow) {
             applyGlow(displayItem);
             applyGlow(confirmationDisplayItem);
@@ -193,6 +211,7 @@ public class MenuButton implements MenuItem {
     private final float volume;
     private final float pitch;
     private ItemStack displayItem;
+    private Supplier<ItemStack> pendingDisplayItem;
     private final Component name;
     private final List<Component> lore;
     private boolean anchored;
@@ -850,11 +869,16 @@ public class MenuButton implements MenuItem {
 
     @Override
     public ItemStack getDisplayItem() {
+        Supplier<ItemStack> pending = pendingDisplayItem;
+        if (pending != null) {
+            setDisplayItem(pending.get());
+        }
         return displayItem.clone();
     }
 
     @Override
     public void setDisplayItem(ItemStack itemStack) {
+        this.pendingDisplayItem = null;
         this.displayItem = Objects.requireNonNull(itemStack, "ItemStack cannot be null").clone();
         updateItemMeta();
         rebuildConfirmationDisplayItem();
@@ -920,6 +944,11 @@ public class MenuButton implements MenuItem {
         private Duration confirmationWindow = Duration.ofSeconds(4);
         private Component confirmationPrompt;
         private boolean glow = false;
+        private UUID skullOwner;
+        private Object cacheKey;
+        private Object cacheState;
+        private MenuItemCache.Entry cached;
+        private Supplier<ItemStack> displaySupplier;
 
         private Builder(Material material) {
             this.material = Objects.requireNonNull(material, "Material cannot be null");
@@ -934,6 +963,9 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder name(String name) {
+            if (cached != null) {
+                return this;
+            }
             if (name != null) {
                 // Process text through both legacy and Adventure approaches
 
@@ -970,6 +1002,9 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder name(Component name) {
+            if (cached != null) {
+                return this;
+            }
             this.name = name;
             return this;
         }
@@ -981,6 +1016,9 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder secondary(String text) {
+            if (cached != null) {
+                return this;
+            }
             if (text != null && !text.isEmpty()) {
                 Component secondary = miniMessage.deserialize(ColorUtils.convertLegacyToMiniMessage(text))
                         .color(NamedTextColor.DARK_GRAY)
@@ -998,6 +1036,9 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder description(String description) {
+            if (cached != null) {
+                return this;
+            }
             if (description != null && !description.isEmpty()) {
                 // Add empty line before description if lore exists
                 if (!lore.isEmpty()) {
@@ -1023,6 +1064,9 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder lore(String line) {
+            if (cached != null) {
+                return this;
+            }
             if (line != null) {
                 Component loreLine = miniMessage.deserialize(ColorUtils.convertLegacyToMiniMessage(line))
                         .decoration(TextDecoration.ITALIC, false);
@@ -1038,6 +1082,9 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder lore(Component line) {
+            if (cached != null) {
+                return this;
+            }
             if (line != null) {
                 lore.add(line);
             }
@@ -1064,10 +1111,51 @@ public class MenuButton implements MenuItem {
          * @return this builder
          */
         public Builder lore(Component... lines) {
+            if (cached != null) {
+                return this;
+            }
             lore.addAll(Arrays.asList(lines));
             return this;
         }
 
+        /**
+         * Reuses the rendered name, lore and item stack from an earlier build with the same key and an equal state.
+         * Call this before the text setters; once a cached render is found they are skipped.
+         *
+         * @param key   identity of the item across renders
+         * @param state the value the item renders, compared with {@code equals}; a different state rebuilds the item
+         * @return this builder
+         */
+        public Builder cached(Object key, Object state) {
+            this.cacheKey = Objects.requireNonNull(key, "Cache key cannot be null");
+            this.cacheState = state;
+            this.cached = MenuItemCache.lookup(MenuButton.class, key, state, material);
+            return this;
+        }
+
+        /**
+         * Defers the display item until the button is first rendered, replacing the built stack.
+         * Useful for large lists where only the visible page needs its item resolved.
+         *
+         * @param supplier supplies the display item on first render
+         * @return this builder
+         */
+        public Builder displayItem(Supplier<ItemStack> supplier) {
+            this.displaySupplier = supplier;
+            return this;
+        }
+
+        /**
+         * Sets the owner shown on a player head button.
+         *
+         * @param owner the skull owner's UUID
+         * @return this builder
+         */
+        public Builder skullOwner(UUID owner) {
+            this.skullOwner = owner;
+            return this;
+        }
+
         /**
          * Applies a fake enchantment glow to the button item.
          *
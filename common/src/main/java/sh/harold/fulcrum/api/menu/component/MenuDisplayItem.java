@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Represents a static display item in a menu.
@@ -30,12 +31,22 @@ public class MenuDisplayItem implements MenuItem {
 
     private MenuDisplayItem(Builder builder) {
         this.slot = builder.slot;
+        MenuItemCache.Entry cached = builder.cached;
+        if (cached != null) {
+            this.name = cached.name();
+            this.lore = new ArrayList<>(cached.lore());
+            this.displayItem = cached.displayItem().clone();
+            return;
+        }
         this.name = builder.name;
         this.lore = new ArrayList<>(builder.lore);
 
         // Build the ItemStack
-        this.displayItem = new ItemStack(builder.material, builder.amount);
+        this.displayItem = MenuItemCache.baseStack(builder.material, builder.amount, builder.skullOwner);
         updateItemMeta();
+        if (builder.cacheKey != null) {
+            MenuItemCache.store(MenuDisplayItem.class, builder.cacheKey, builder.cacheState, builder.skullOwner, name, lore, displayItem);
+        }
     }
 
     /**
@@ -103,6 +114,10 @@ public class MenuDisplayItem implements MenuItem {
         private int amount = 1;
         private Component name;
         private int slot = -1;
+        private UUID skullOwner;
+        private Object cacheKey;
+        private Object cacheState;
+        private MenuItemCache.Entry cached;
 
         private Builder(Material material) {
             this.material = Objects.requireNonNull(material, "Material cannot be null");
@@ -117,6 +132,9 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder name(String name) {
+            if (cached != null) {
+                return this;
+            }
             if (name != null) {
                 // Process text through both legacy and Adventure approaches
 
@@ -153,6 +171,9 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder name(Component name) {
+            if (cached != null) {
+                return this;
+            }
             this.name = name;
             return this;
         }
@@ -164,6 +185,9 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder secondary(String text) {
+            if (cached != null) {
+                return this;
+            }
             if (text != null && !text.isEmpty()) {
                 Component secondary = miniMessage.deserialize(ColorUtils.convertLegacyToMiniMessage(text))
                         .color(NamedTextColor.DARK_GRAY)
@@ -181,6 +205,9 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder description(String description) {
+            if (cached != null) {
+                return this;
+            }
             if (description != null && !description.isEmpty()) {
                 // Add empty line before description if lore exists
                 if (!lore.isEmpty()) {
@@ -206,6 +233,9 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder lore(String line) {
+            if (cached != null) {
+                return this;
+            }
             if (line != null) {
                 Component loreLine = miniMessage.deserialize(ColorUtils.convertLegacyToMiniMessage(line))
                         .decoration(TextDecoration.ITALIC, false);
@@ -221,6 +251,9 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder lore(Component line) {
+            if (cached != null) {
+                return this;
+            }
             if (line != null) {
                 lore.add(line);
             }
@@ -247,10 +280,39 @@ public class MenuDisplayItem implements MenuItem {
          * @return this builder
          */
         public Builder lore(Component... lines) {
+            if (cached != null) {
+                return this;
+            }
             lore.addAll(Arrays.asList(lines));
             return this;
         }
 
+        /**
+         * Reuses the rendered name, lore and item stack from an earlier build with the same key and an equal state.
+         * Call this before the text setters; once a cached render is found they are skipped.
+         *
+         * @param key   identity of the item across renders
+         * @param state the value the item renders, compared with {@code equals}; a different state rebuilds the item
+         * @return this builder
+         */
+        public Builder cached(Object key, Object state) {
+            this.cacheKey = Objects.requireNonNull(key, "Cache key cannot be null");
+            this.cacheState = state;
+            this.cached = MenuItemCache.lookup(MenuDisplayItem.class, key, state, material);
+            return this;
+        }
+
+        /**
+         * Sets the owner shown on a player head item.
+         *
+         * @param owner the skull owner's UUID
+         * @return this builder
+         */
+        public Builder skullOwner(UUID owner) {
+            this.skullOwner = owner;
+            return this;
+        }
+
         /**
          * Sets the item amount.
          *
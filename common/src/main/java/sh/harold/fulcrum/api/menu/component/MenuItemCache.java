@@ -0,0 +1,77 @@
+package sh.harold.fulcrum.api.menu.component;
+
+import net.kyori.adventure.text.Component;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import sh.harold.fulcrum.api.menu.util.PlayerHeads;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Bounded memo of rendered menu items keyed by a caller supplied key and the state they render.
+ * A lookup only hits when the stored state equals the requested one, so a changed state is the invalidation.
+ * Entries that embed a player head also miss once {@link PlayerHeads} rebuilds or drops that head.
+ */
+final class MenuItemCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private static final Map<CacheKey, Entry> ENTRIES = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CacheKey, Entry> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private MenuItemCache() {
+    }
+
+    static Entry lookup(Class<? extends MenuItem> owner, Object key, Object state, Material material) {
+        CacheKey cacheKey = new CacheKey(owner, key);
+        synchronized (ENTRIES) {
+            Entry entry = ENTRIES.get(cacheKey);
+            if (entry == null) {
+                return null;
+            }
+            if (!Objects.equals(entry.state(), state) || entry.displayItem().getType() != material || staleHead(entry)) {
+                ENTRIES.remove(cacheKey);
+                return null;
+            }
+            return entry;
+        }
+    }
+
+    static void store(Class<? extends MenuItem> owner, Object key, Object state, UUID skullOwner,
+                      Component name, List<Component> lore, ItemStack displayItem) {
+        UUID head = displayItem.getType() == Material.PLAYER_HEAD ? skullOwner : null;
+        long headRevision = head != null ? PlayerHeads.revision(head) : 0L;
+        Entry entry = new Entry(state, head, headRevision, name, List.copyOf(lore), displayItem.clone());
+        synchronized (ENTRIES) {
+            ENTRIES.put(new CacheKey(owner, key), entry);
+        }
+    }
+
+    static ItemStack baseStack(Material material, int amount, UUID skullOwner) {
+        if (skullOwner == null || material != Material.PLAYER_HEAD) {
+            return new ItemStack(material, amount);
+        }
+        ItemStack head = PlayerHeads.head(skullOwner);
+        head.setAmount(amount);
+        return head;
+    }
+
+    private static boolean staleHead(Entry entry) {
+        return entry.skullOwner() != null && PlayerHeads.revision(entry.skullOwner()) != entry.headRevision();
+    }
+
+    record Entry(Object state, UUID skullOwner, long headRevision,
+                 Component name, List<Component> lore, ItemStack displayItem) {
+    }
+
+    private record CacheKey(Class<? extends MenuItem> owner, Object key) {
+    }
+}
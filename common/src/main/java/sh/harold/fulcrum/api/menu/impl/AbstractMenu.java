@@ -4,6 +4,7 @@ import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 import sh.harold.fulcrum.api.menu.Menu;
 import sh.harold.fulcrum.api.menu.MenuContext;
@@ -30,6 +31,7 @@ public abstract class AbstractMenu implements Menu {
 
     protected Inventory inventory;
     protected Player viewer;
+    private Inventory stagingInventory;
 
     protected AbstractMenu(String id, Component title, int size, Plugin ownerPlugin, Player viewer) {
         this.id = Objects.requireNonNull(id, "Menu ID cannot be null");
@@ -95,11 +97,22 @@ public abstract class AbstractMenu implements Menu {
             return;
         }
 
-        // Clear inventory
-        inventory.clear();
-
-        // Re-render items
-        renderItems();
+        // Render into a detached inventory, then only write the slots that changed
+        Inventory live = inventory;
+        Inventory staging = stagingInventory();
+        staging.clear();
+        inventory = staging;
+        try {
+            renderItems();
+        } finally {
+            if (inventory == staging) {
+                inventory = live;
+            }
+        }
+        // A subclass that swapped in a fresh inventory while rendering has already drawn into it
+        if (inventory == live) {
+            applyChangedSlots(staging, live);
+        }
 
         // Trigger update handlers
         updateHandlers.forEach(Runnable::run);
@@ -221,6 +234,23 @@ public abstract class AbstractMenu implements Menu {
         });
     }
 
+    private Inventory stagingInventory() {
+        if (stagingInventory == null) {
+            stagingInventory = Bukkit.createInventory(null, size);
+        }
+        return stagingInventory;
+    }
+
+    private void applyChangedSlots(Inventory staging, Inventory live) {
+        for (int slot = 0; slot < size; slot++) {
+            ItemStack next = staging.getItem(slot);
+            ItemStack current = live.getItem(slot);
+            if (!Objects.equals(next, current)) {
+                live.setItem(slot, next);
+            }
+        }
+    }
+
     /**
      * Fills a range of slots with the specified item.
      *
@@ -0,0 +1,105 @@
+package sh.harold.fulcrum.api.menu.util;
+
+import com.destroystokyo.paper.profile.PlayerProfile;
+import org.bukkit.Bukkit;
+import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.SkullMeta;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded LRU of prebuilt player head stacks keyed by player UUID.
+ * Resolving an offline player and its profile happens once per entry instead of once per rendered head.
+ * Every built head gets a new revision so renders that embed a head can tell when it was rebuilt.
+ */
+public final class PlayerHeads {
+
+    private static final int MAX_ENTRIES = 512;
+    private static final long NOT_CACHED = -1L;
+    private static final AtomicLong REVISIONS = new AtomicLong();
+
+    private static final Map<UUID, CachedHead> HEADS = new LinkedHashMap<>(128, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, CachedHead> eldest) {
+            return size() > MAX_ENTRIES;
+        }
+    };
+
+    private PlayerHeads() {
+    }
+
+    /**
+     * Returns a copy of the cached head for the given player, building it on first use.
+     * Heads built while the player was offline are rebuilt once they are online and carry textures.
+     *
+     * @param playerId the skull owner
+     * @return a fresh head stack the caller may modify
+     */
+    public static ItemStack head(UUID playerId) {
+        Objects.requireNonNull(playerId, "playerId");
+        Player online = Bukkit.getPlayer(playerId);
+        CachedHead cached;
+        synchronized (HEADS) {
+            cached = HEADS.get(playerId);
+        }
+        if (cached == null || (!cached.textured() && online != null)) {
+            cached = build(playerId, online);
+            synchronized (HEADS) {
+                HEADS.put(playerId, cached);
+            }
+        }
+        return cached.stack().clone();
+    }
+
+    /**
+     * Returns the revision of the cached head for the given player, or a value no built head carries when it is not
+     * cached. A render that embedded an older revision is stale.
+     *
+     * @param playerId the skull owner
+     * @return the current head revision
+     */
+    public static long revision(UUID playerId) {
+        synchronized (HEADS) {
+            CachedHead cached = HEADS.get(playerId);
+            return cached != null ? cached.revision() : NOT_CACHED;
+        }
+    }
+
+    /**
+     * Drops the cached head so the next lookup resolves the profile again.
+     *
+     * @param playerId the skull owner
+     */
+    public static void invalidate(UUID playerId) {
+        synchronized (HEADS) {
+            HEADS.remove(playerId);
+        }
+    }
+
+    private static CachedHead build(UUID playerId, Player online) {
+        ItemStack stack = new ItemStack(Material.PLAYER_HEAD);
+        long revision = REVISIONS.incrementAndGet();
+        if (!(stack.getItemMeta() instanceof SkullMeta meta)) {
+            return new CachedHead(stack, false, revision);
+        }
+        boolean textured = false;
+        if (online != null) {
+            PlayerProfile profile = online.getPlayerProfile().clone();
+            meta.setPlayerProfile(profile);
+            textured = profile.hasTextures();
+        } else {
+            meta.setOwningPlayer(Bukkit.getOfflinePlayer(playerId));
+        }
+        stack.setItemMeta(meta);
+        return new CachedHead(stack, textured, revision);
+    }
+
+    private record CachedHead(ItemStack stack, boolean textured, long revision) {
+    }
+}
@@ -185,14 +185,21 @@ public class SimpleScoreboardService implements ScoreboardService {
             return;
         }
 
-        Scoreboard scoreboard = manager.getNewScoreboard();
         String objectiveName = objectiveName(definition.getScoreboardId(), player.getUniqueId());
         String title = translate(state.hasCustomTitle() ? state.getCustomTitle() : definition.getTitle());
+        List<String> lines = collectLines(player, state, definition);
 
+        List<String> rendered = new ArrayList<>(lines.size() + 1);
+        rendered.add(title);
+        rendered.addAll(lines);
+        if (rendered.equals(state.getRenderedLines()) && player.getScoreboard().getObjective(objectiveName) != null) {
+            return;
+        }
+
+        Scoreboard scoreboard = manager.getNewScoreboard();
         Objective objective = scoreboard.registerNewObjective(objectiveName, "dummy", title);
         objective.setDisplaySlot(DisplaySlot.SIDEBAR);
 
-        List<String> lines = collectLines(player, state, definition);
         int score = lines.size();
         Set<String> usedEntries = new HashSet<>();
         for (String rawLine : lines) {
@@ -201,6 +208,7 @@ public class SimpleScoreboardService implements ScoreboardService {
         }
 
         player.setScoreboard(scoreboard);
+        state.setRenderedLines(rendered);
     }
 
     private List<String> collectLines(Player player, PlayerScoreboardState state, ScoreboardDefinition definition) {
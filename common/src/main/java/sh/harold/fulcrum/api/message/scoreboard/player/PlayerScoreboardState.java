@@ -3,6 +3,7 @@ package sh.harold.fulcrum.api.message.scoreboard.player;
 import sh.harold.fulcrum.api.message.scoreboard.ScoreboardModule;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,7 @@ public class PlayerScoreboardState {
     private final Map<Integer, FlashState> activeFlashes = new ConcurrentHashMap<>();
     private volatile String currentScoreboardId;
     private volatile String customTitle;
+    private volatile List<String> renderedLines;
 
     public PlayerScoreboardState(UUID playerId) {
         if (playerId == null) {
@@ -47,6 +49,17 @@ public class PlayerScoreboardState {
         return customTitle != null && !customTitle.isBlank();
     }
 
+    /**
+     * Title followed by the sidebar lines last pushed to the client, or null when nothing has been rendered yet.
+     */
+    public List<String> getRenderedLines() {
+        return renderedLines;
+    }
+
+    public void setRenderedLines(List<String> renderedLines) {
+        this.renderedLines = renderedLines == null ? null : List.copyOf(renderedLines);
+    }
+
     public boolean hasScoreboard() {
         return currentScoreboardId != null;
     }
@@ -26,4 +26,17 @@ public interface DocumentCollection {
     default CompletionStage<Void> updateAll(Map<String, UnaryOperator<Map<String, Object>>> updates) {
         throw new UnsupportedOperationException("updateAll not implemented");
     }
+
+    /**
+     * Applies path writes and removals to a document without materializing it first.
+     */
+    default CompletionStage<Void> patch(String id, Map<String, Object> setValues, Iterable<String> removePaths) {
+        return load(id).thenCompose(document -> document.patch(setValues, removePaths));
+    }
+
+    /**
+     * Returns a collection holding one section of these documents, keyed by the same ids, so loads of the parent
+     * stop carrying it. Data still stored at {@code legacyPath} in the parent moves over on first load.
+     */
+    DocumentCollection section(String section, String legacyPath);
 }
@@ -106,6 +106,22 @@ final class DefaultDocumentCollection implements DocumentCollection {
         return combined.whenComplete((ignored, throwable) -> record("updateAll", started, throwable));
     }
 
+    @Override
+    public CompletionStage<Void> patch(String id, Map<String, Object> setValues, Iterable<String> removePaths) {
+        long started = System.nanoTime();
+        DocumentKey key = DocumentKey.of(name, id);
+        return store.patch(key, setValues, removePaths)
+            .whenComplete((ignored, throwable) -> record("patch", started, throwable));
+    }
+
+    @Override
+    public DocumentCollection section(String section, String legacyPath) {
+        Objects.requireNonNull(section, "section");
+        Objects.requireNonNull(legacyPath, "legacyPath");
+        DefaultDocumentCollection sectionCollection = new DefaultDocumentCollection(name + "_" + section, store, executor, metrics);
+        return new SectionDocumentCollection(name, legacyPath, sectionCollection, store, executor);
+    }
+
     private void record(String operation, long startedNanos, Throwable throwable) {
         long elapsedMillis = java.util.concurrent.TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
         metrics.record(operation, name, elapsedMillis, throwable == null);
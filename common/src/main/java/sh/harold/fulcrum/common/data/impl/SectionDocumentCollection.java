@@ -0,0 +1,127 @@
+package sh.harold.fulcrum.common.data.impl;
+
+import sh.harold.fulcrum.common.data.Document;
+import sh.harold.fulcrum.common.data.DocumentCollection;
+import sh.harold.fulcrum.common.data.DocumentKey;
+import sh.harold.fulcrum.common.data.DocumentSnapshot;
+import sh.harold.fulcrum.common.data.DocumentStore;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.UnaryOperator;
+
+/**
+ * A heavy section of a parent document kept in its own collection under the same id.
+ * <p>
+ * Section documents keep the parent's path layout, so callers read and write {@code legacyPath} exactly as before.
+ * When a section document does not exist yet, the value still stored at {@code legacyPath} in the parent is moved
+ * across on first load and removed from the parent. The section document is written even when there is nothing to
+ * move, so the parent is only read once per id; ids without a parent document are left unwritten.
+ */
+final class SectionDocumentCollection implements DocumentCollection {
+
+    private final String parentName;
+    private final String legacyPath;
+    private final DefaultDocumentCollection delegate;
+    private final DocumentStore store;
+    private final Executor executor;
+
+    SectionDocumentCollection(String parentName, String legacyPath, DefaultDocumentCollection delegate,
+                              DocumentStore store, Executor executor) {
+        this.parentName = Objects.requireNonNull(parentName, "parentName");
+        this.legacyPath = Objects.requireNonNull(legacyPath, "legacyPath");
+        this.delegate = Objects.requireNonNull(delegate, "delegate");
+        this.store = Objects.requireNonNull(store, "store");
+        this.executor = executor;
+    }
+
+    @Override
+    public String name() {
+        return delegate.name();
+    }
+
+    @Override
+    public CompletionStage<Document> load(String id) {
+        return delegate.load(id).thenCompose(document -> {
+            if (document.exists()) {
+                return CompletableFuture.completedFuture(document);
+            }
+            return migrate(id, document);
+        });
+    }
+
+    @Override
+    public CompletionStage<Document> create(String id, Map<String, Object> data) {
+        return delegate.create(id, data);
+    }
+
+    @Override
+    public CompletionStage<Boolean> delete(String id) {
+        return delegate.delete(id);
+    }
+
+    @Override
+    public CompletionStage<List<Document>> all() {
+        return delegate.all();
+    }
+
+    @Override
+    public CompletionStage<Long> count() {
+        return delegate.count();
+    }
+
+    @Override
+    public CompletionStage<Map<String, Document>> loadAll(java.util.Collection<String> ids) {
+        return delegate.loadAll(ids);
+    }
+
+    @Override
+    public CompletionStage<Void> updateAll(Map<String, UnaryOperator<Map<String, Object>>> updates) {
+        return delegate.updateAll(updates);
+    }
+
+    @Override
+    public DocumentCollection section(String section, String legacyPath) {
+        return delegate.section(section, legacyPath);
+    }
+
+    private CompletionStage<Document> migrate(String id, Document missing) {
+        DocumentKey parentKey = DocumentKey.of(parentName, id);
+        DocumentKey sectionKey = DocumentKey.of(delegate.name(), id);
+        return store.read(parentKey).thenCompose(parent -> {
+            if (!parent.exists()) {
+                // Reads must not create documents for ids that were never stored
+                return CompletableFuture.completedFuture(missing);
+            }
+            Object legacy = MapPath.read(parent.data(), legacyPath);
+            CompletionStage<DocumentSnapshot> seeded = store.update(sectionKey, current -> seed(current, legacy));
+            if (legacy == null) {
+                return seeded.thenApply(section -> (Document) new StoredDocument(section, store, executor));
+            }
+            return seeded.thenCompose(section -> store.update(parentKey, current -> withoutLegacy(current))
+                .thenApply(ignored -> (Document) new StoredDocument(section, store, executor)));
+        });
+    }
+
+    private Map<String, Object> seed(Map<String, Object> current, Object legacy) {
+        if (current != null && !current.isEmpty()) {
+            return current;
+        }
+        Map<String, Object> seeded = new LinkedHashMap<>();
+        if (legacy != null) {
+            MapPath.write(seeded, legacyPath, legacy);
+        }
+        return seeded;
+    }
+
+    private Map<String, Object> withoutLegacy(Map<String, Object> current) {
+        Map<String, Object> working = MapPath.deepCopy(current == null ? Map.of() : current);
+        MapPath.remove(working, legacyPath);
+        return working;
+    }
+}
@@ -10,8 +10,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -57,31 +60,30 @@ public final class ModuleLoader {
         }
 
         List<ModuleId> activationOrder = determineActivationOrder(activation, skipHandler);
-        List<ModuleId> loadedModules = new ArrayList<>();
         CompletableFuture<Void> result = new CompletableFuture<>();
 
-        try {
-            for (ModuleId moduleId : activationOrder) {
-                FulcrumModule module = modules.get(moduleId);
-                module.enable().toCompletableFuture().join();
-                loadedModules.add(moduleId);
-            }
-            enabledModules = List.copyOf(loadedModules);
+        long started = System.nanoTime();
+        GraphRun run = runGraph(activationOrder, moduleGraph::dependenciesFor, this::enableModule, true);
+        if (run.failure() == null) {
+            // Modules finish in any order; keep the activation order so dependencies still come first
+            Set<ModuleId> completed = Set.copyOf(run.completed());
+            enabledModules = activationOrder.stream().filter(completed::contains).toList();
             state.set(State.ENABLED);
+            LOGGER.info(() -> "Enabled " + enabledModules.size() + " modules in " + elapsedMillis(started) + " ms");
             result.complete(null);
-        } catch (Throwable throwable) {
-            List<ModuleId> rollbackTargets = List.copyOf(loadedModules);
-            disableInReverse(rollbackTargets)
-                .whenComplete((rollbackIgnored, rollbackThrowable) -> {
-                    if (rollbackThrowable != null) {
-                        throwable.addSuppressed(rollbackThrowable);
-                    }
-                    state.set(State.IDLE);
-                    enabledModules = List.of();
-                    result.completeExceptionally(throwable);
-                });
+            return result;
         }
 
+        Throwable throwable = run.failure();
+        disableInReverse(run.completed())
+            .whenComplete((rollbackIgnored, rollbackThrowable) -> {
+                if (rollbackThrowable != null) {
+                    throwable.addSuppressed(rollbackThrowable);
+                }
+                state.set(State.IDLE);
+                enabledModules = List.of();
+                result.completeExceptionally(throwable);
+            });
         return result;
     }
 
@@ -111,27 +113,146 @@ public final class ModuleLoader {
     }
 
     private CompletableFuture<Void> disableInReverse(List<ModuleId> ids) {
+        Set<ModuleId> targets = Set.copyOf(ids);
+        Map<ModuleId, Set<ModuleId>> dependents = new HashMap<>();
+        for (ModuleId moduleId : ids) {
+            for (ModuleId dependency : moduleGraph.dependenciesFor(moduleId)) {
+                if (targets.contains(dependency)) {
+                    dependents.computeIfAbsent(dependency, ignored -> new LinkedHashSet<>()).add(moduleId);
+                }
+            }
+        }
+
         List<ModuleId> reverseOrder = new ArrayList<>(ids);
         Collections.reverse(reverseOrder);
+        GraphRun run = runGraph(reverseOrder, id -> dependents.getOrDefault(id, Set.of()), this::disableModule, false);
+        return run.failure() == null
+            ? CompletableFuture.completedFuture(null)
+            : CompletableFuture.failedFuture(run.failure());
+    }
 
-        CompletableFuture<Void> pipeline = CompletableFuture.completedFuture(null);
-        for (ModuleId moduleId : reverseOrder) {
-            FulcrumModule module = modules.get(moduleId);
-            pipeline = pipeline.thenCompose(ignored -> {
-                LOGGER.info(() -> "Disabling module " + moduleId);
-                return module.disable()
-                    .toCompletableFuture()
-                    .orTimeout(15, TimeUnit.SECONDS)
-                    .whenComplete((ignoredResult, throwable) -> {
-                        if (throwable == null) {
-                            LOGGER.info(() -> "Disabled module " + moduleId);
-                        } else {
-                            LOGGER.log(Level.WARNING, "Module " + moduleId + " disable failed", throwable);
-                        }
-                    });
+    private CompletableFuture<Void> enableModule(ModuleId moduleId) {
+        long started = System.nanoTime();
+        return modules.get(moduleId).enable()
+            .toCompletableFuture()
+            .whenComplete((ignoredResult, throwable) -> {
+                if (throwable == null) {
+                    LOGGER.info(() -> "Enabled module " + moduleId + " in " + elapsedMillis(started) + " ms");
+                }
             });
+    }
+
+    private CompletableFuture<Void> disableModule(ModuleId moduleId) {
+        LOGGER.info(() -> "Disabling module " + moduleId);
+        long started = System.nanoTime();
+        return modules.get(moduleId).disable()
+            .toCompletableFuture()
+            .orTimeout(15, TimeUnit.SECONDS)
+            .whenComplete((ignoredResult, throwable) -> {
+                if (throwable == null) {
+                    LOGGER.info(() -> "Disabled module " + moduleId + " in " + elapsedMillis(started) + " ms");
+                } else {
+                    LOGGER.log(Level.WARNING, "Module " + moduleId + " disable failed", throwable);
+                }
+            });
+    }
+
+    /**
+     * Runs {@code action} over {@code order}, starting each module once all of its prerequisites have completed.
+     * Actions are always invoked on the calling thread; only their futures complete elsewhere, so modules
+     * without a dependency path between them overlap their asynchronous work.
+     */
+    private GraphRun runGraph(
+        List<ModuleId> order,
+        Function<ModuleId, Set<ModuleId>> prerequisites,
+        Function<ModuleId, CompletableFuture<Void>> action,
+        boolean stopOnFailure
+    ) {
+        Set<ModuleId> members = Set.copyOf(order);
+        Map<ModuleId, Integer> remaining = new HashMap<>();
+        Map<ModuleId, List<ModuleId>> unlocks = new HashMap<>();
+        List<ModuleId> ready = new ArrayList<>();
+        for (ModuleId moduleId : order) {
+            int count = 0;
+            for (ModuleId prerequisite : prerequisites.apply(moduleId)) {
+                if (members.contains(prerequisite)) {
+                    unlocks.computeIfAbsent(prerequisite, ignored -> new ArrayList<>()).add(moduleId);
+                    count++;
+                }
+            }
+            remaining.put(moduleId, count);
+            if (count == 0) {
+                ready.add(moduleId);
+            }
+        }
+
+        BlockingQueue<Completion> completions = new LinkedBlockingQueue<>();
+        List<ModuleId> completed = new ArrayList<>();
+        Throwable failure = null;
+        int inFlight = 0;
+        int cursor = 0;
+        while (true) {
+            while (cursor < ready.size() && (failure == null || !stopOnFailure)) {
+                ModuleId moduleId = ready.get(cursor++);
+                CompletableFuture<Void> future;
+                try {
+                    future = action.apply(moduleId);
+                } catch (Throwable throwable) {
+                    future = CompletableFuture.failedFuture(throwable);
+                }
+                future.whenComplete((ignored, throwable) -> completions.add(new Completion(moduleId, throwable)));
+                inFlight++;
+            }
+            if (inFlight == 0) {
+                break;
+            }
+
+            Completion completion = awaitCompletion(completions);
+            inFlight--;
+            if (completion.failure() == null) {
+                completed.add(completion.moduleId());
+            } else if (failure == null) {
+                failure = unwrap(completion.failure());
+            } else {
+                failure.addSuppressed(unwrap(completion.failure()));
+            }
+            if (completion.failure() == null || !stopOnFailure) {
+                for (ModuleId unlocked : unlocks.getOrDefault(completion.moduleId(), List.of())) {
+                    if (remaining.merge(unlocked, -1, Integer::sum) == 0) {
+                        ready.add(unlocked);
+                    }
+                }
+            }
+        }
+        return new GraphRun(List.copyOf(completed), failure);
+    }
+
+    private Completion awaitCompletion(BlockingQueue<Completion> completions) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    return completions.take();
+                } catch (InterruptedException exception) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
         }
-        return pipeline;
+    }
+
+    private Throwable unwrap(Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private long elapsedMillis(long startedNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedNanos);
     }
 
     private CompletableFuture<Void> failedFuture(String message) {
@@ -162,6 +283,12 @@ public final class ModuleLoader {
     public record SkippedModule(ModuleId moduleId, String reason) {
     }
 
+    private record Completion(ModuleId moduleId, Throwable failure) {
+    }
+
+    private record GraphRun(List<ModuleId> completed, Throwable failure) {
+    }
+
     private enum State {
         IDLE,
         ENABLING,
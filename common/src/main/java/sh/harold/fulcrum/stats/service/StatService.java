@@ -3,8 +3,10 @@ package sh.harold.fulcrum.stats.service;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 
 import sh.harold.fulcrum.stats.core.StatContainer;
 import sh.harold.fulcrum.stats.core.StatRegistry;
@@ -16,6 +18,7 @@ public final class StatService {
 
     private final StatRegistry registry;
     private final Map<EntityKey, StatContainer> containers = new ConcurrentHashMap<>();
+    private final Set<EntityKey> releasedKeys = ConcurrentHashMap.newKeySet();
     private final List<StatChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     public StatService(StatRegistry registry) {
@@ -30,6 +33,29 @@ public final class StatService {
     public void removeContainer(EntityKey entityKey) {
         Objects.requireNonNull(entityKey, "entityKey");
         containers.remove(entityKey);
+        releasedKeys.remove(entityKey);
+    }
+
+    /**
+     * Marks a container as a reclaim candidate; it is only dropped by a later {@link #sweepReleased(Predicate)}.
+     */
+    public void releaseContainer(EntityKey entityKey) {
+        Objects.requireNonNull(entityKey, "entityKey");
+        if (containers.containsKey(entityKey)) {
+            releasedKeys.add(entityKey);
+        }
+    }
+
+    public int sweepReleased(Predicate<EntityKey> stillActive) {
+        Objects.requireNonNull(stillActive, "stillActive");
+        int removed = 0;
+        for (EntityKey entityKey : releasedKeys) {
+            releasedKeys.remove(entityKey);
+            if (!stillActive.test(entityKey) && containers.remove(entityKey) != null) {
+                removed++;
+            }
+        }
+        return removed;
     }
 
     public void addListener(StatChangeListener listener) {
@@ -0,0 +1,143 @@
+package sh.harold.fulcrum.common.loader;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModuleLoaderTest {
+
+    private static final Duration SLOW = Duration.ofMillis(100);
+
+    private final List<String> events = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    void dependentsStartOnlyOnceTheirPrerequisitesComplete() {
+        ModuleLoader loader = new ModuleLoader(List.of(
+            new RecordingModule("a", SLOW),
+            new RecordingModule("b", Duration.ZERO, "a"),
+            new RecordingModule("c", Duration.ZERO)
+        ));
+
+        loader.enableAll().toCompletableFuture().join();
+
+        assertThat(events.indexOf("enabled:a")).isLessThan(events.indexOf("enable:b"));
+        assertThat(events.indexOf("enable:c")).isLessThan(events.indexOf("enabled:a"));
+    }
+
+    @Test
+    void enabledModulesKeepActivationOrderWhenCompletionsInterleave() {
+        ModuleLoader loader = new ModuleLoader(List.of(
+            new RecordingModule("a", SLOW),
+            new RecordingModule("b", Duration.ZERO, "a"),
+            new RecordingModule("c", Duration.ZERO)
+        ));
+
+        loader.enableAll().toCompletableFuture().join();
+
+        assertThat(loader.enabledModules()).isEqualTo(loader.loadOrder());
+    }
+
+    @Test
+    void failureStopsDependentsAndRollsBackCompletedModules() {
+        ModuleLoader loader = new ModuleLoader(List.of(
+            new RecordingModule("a", Duration.ZERO),
+            new FailingModule("b", "a"),
+            new RecordingModule("d", Duration.ZERO, "b"),
+            new RecordingModule("c", Duration.ZERO)
+        ));
+
+        assertThatThrownBy(() -> loader.enableAll().toCompletableFuture().join())
+            .hasRootCauseMessage("b failed");
+
+        assertThat(events).doesNotContain("enable:d", "disable:b", "disable:d");
+        assertThat(events).contains("disable:a", "disable:c");
+        assertThat(loader.enabledModules()).isEmpty();
+    }
+
+    @Test
+    void disableAllStopsDependentsBeforeTheirDependencies() {
+        ModuleLoader loader = new ModuleLoader(List.of(
+            new RecordingModule("a", Duration.ZERO),
+            new RecordingModule("b", Duration.ZERO, "a")
+        ));
+        loader.enableAll().toCompletableFuture().join();
+
+        loader.disableAll().toCompletableFuture().join();
+
+        assertThat(events.indexOf("disable:b")).isLessThan(events.indexOf("disable:a"));
+        assertThat(loader.enabledModules()).isEmpty();
+    }
+
+    private static ModuleDescriptor descriptor(String id, String... dependencies) {
+        ModuleId[] dependencyIds = new ModuleId[dependencies.length];
+        for (int i = 0; i < dependencies.length; i++) {
+            dependencyIds[i] = ModuleId.of(dependencies[i]);
+        }
+        return ModuleDescriptor.of(ModuleId.of(id), dependencyIds);
+    }
+
+    private final class RecordingModule implements FulcrumModule {
+        private final ModuleDescriptor descriptor;
+        private final Duration delay;
+
+        private RecordingModule(String id, Duration delay, String... dependencies) {
+            this.descriptor = descriptor(id, dependencies);
+            this.delay = delay;
+        }
+
+        @Override
+        public ModuleDescriptor descriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public CompletionStage<Void> enable() {
+            String id = descriptor.id().value();
+            events.add("enable:" + id);
+            return CompletableFuture.runAsync(
+                () -> events.add("enabled:" + id),
+                CompletableFuture.delayedExecutor(delay.toMillis(), TimeUnit.MILLISECONDS)
+            );
+        }
+
+        @Override
+        public CompletionStage<Void> disable() {
+            events.add("disable:" + descriptor.id().value());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private final class FailingModule implements FulcrumModule {
+        private final ModuleDescriptor descriptor;
+
+        private FailingModule(String id, String... dependencies) {
+            this.descriptor = descriptor(id, dependencies);
+        }
+
+        @Override
+        public ModuleDescriptor descriptor() {
+            return descriptor;
+        }
+
+        @Override
+        public CompletionStage<Void> enable() {
+            events.add("enable:" + descriptor.id().value());
+            return CompletableFuture.failedFuture(new IllegalStateException(descriptor.id().value() + " failed"));
+        }
+
+        @Override
+        public CompletionStage<Void> disable() {
+            events.add("disable:" + descriptor.id().value());
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+}
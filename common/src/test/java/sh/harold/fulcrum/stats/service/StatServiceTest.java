@@ -0,0 +1,65 @@
+package sh.harold.fulcrum.stats.service;
+
+import org.junit.jupiter.api.Test;
+import sh.harold.fulcrum.stats.core.StatContainer;
+import sh.harold.fulcrum.stats.core.StatRegistry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatServiceTest {
+
+    private final StatService service = new StatService(StatRegistry.withDefaults());
+    private final EntityKey key = new EntityKey("entity");
+
+    @Test
+    void sweepDropsReleasedContainersThatAreNoLongerActive() {
+        StatContainer container = service.getContainer(key);
+        service.releaseContainer(key);
+
+        assertThat(service.sweepReleased(ignored -> false)).isEqualTo(1);
+        assertThat(service.getContainer(key)).isNotSameAs(container);
+    }
+
+    @Test
+    void sweepKeepsReleasedContainersThatAreStillActive() {
+        StatContainer container = service.getContainer(key);
+        service.releaseContainer(key);
+
+        assertThat(service.sweepReleased(ignored -> true)).isZero();
+        assertThat(service.getContainer(key)).isSameAs(container);
+    }
+
+    @Test
+    void sweepForgetsCandidatesItKept() {
+        StatContainer container = service.getContainer(key);
+        service.releaseContainer(key);
+        service.sweepReleased(ignored -> true);
+
+        assertThat(service.sweepReleased(ignored -> false)).isZero();
+        assertThat(service.getContainer(key)).isSameAs(container);
+    }
+
+    @Test
+    void sweepLeavesUnreleasedContainersAlone() {
+        StatContainer container = service.getContainer(key);
+
+        assertThat(service.sweepReleased(ignored -> false)).isZero();
+        assertThat(service.getContainer(key)).isSameAs(container);
+    }
+
+    @Test
+    void releasingWithoutAContainerIsIgnored() {
+        service.releaseContainer(key);
+
+        assertThat(service.sweepReleased(ignored -> false)).isZero();
+    }
+
+    @Test
+    void removedContainersAreNoLongerSweepCandidates() {
+        service.getContainer(key);
+        service.releaseContainer(key);
+        service.removeContainer(key);
+
+        assertThat(service.sweepReleased(ignored -> false)).isZero();
+    }
+}
@@ -17,9 +17,12 @@ import sh.harold.fulcrum.plugin.playerdata.LevelProgress;
 import sh.harold.fulcrum.plugin.playerdata.LevelTier;
 import sh.harold.fulcrum.plugin.playerdata.PlayerLevelingService;
 
-import java.util.Objects;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class ChatFormatService {
 
@@ -29,6 +32,7 @@ public final class ChatFormatService {
     private final LuckPerms luckPerms;
     private final QueryOptions queryOptions;
     private final PlayerLevelingService levelingService;
+    private final Map<UUID, CompletableFuture<Format>> formats = new ConcurrentHashMap<>();
 
     public ChatFormatService(LuckPerms luckPerms, PlayerLevelingService levelingService) {
         this.luckPerms = Objects.requireNonNull(luckPerms, "luckPerms");
@@ -38,7 +42,33 @@ public final class ChatFormatService {
             .getQueryOptions(luckPerms.getContextManager().getStaticContext()));
     }
 
+    /**
+     * Returns the cached format for the player, resolving it on first use.
+     * Entries live until {@link #invalidate(UUID)} is called for a rank, level or session change.
+     */
     public CompletableFuture<Format> format(Player player) {
+        UUID playerId = player.getUniqueId();
+        CompletableFuture<Format> cached = formats.get(playerId);
+        if (cached != null && !cached.isCompletedExceptionally()) {
+            return cached;
+        }
+        CompletableFuture<Format> resolved = resolve(player);
+        formats.put(playerId, resolved);
+        resolved.whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                formats.remove(playerId, resolved);
+            }
+        });
+        return resolved;
+    }
+
+    public void invalidate(UUID playerId) {
+        if (playerId != null) {
+            formats.remove(playerId);
+        }
+    }
+
+    private CompletableFuture<Format> resolve(Player player) {
         UserManager users = luckPerms.getUserManager();
         User cached = users.getUser(player.getUniqueId());
         CompletableFuture<User> userFuture = cached != null ? CompletableFuture.completedFuture(cached) : users.loadUser(player.getUniqueId());
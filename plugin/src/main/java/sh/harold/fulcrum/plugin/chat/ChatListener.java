@@ -6,10 +6,12 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import net.kyori.adventure.audience.Audience;
+import io.papermc.paper.chat.ChatRenderer;
 import io.papermc.paper.event.player.AsyncChatEvent;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import sh.harold.fulcrum.plugin.message.MessageService;
@@ -19,10 +21,13 @@ import sh.harold.fulcrum.plugin.playerdata.UsernameDisplayService;
 import sh.harold.fulcrum.plugin.unlockable.ChatCosmeticPrefixService;
 
 import java.util.Objects;
+import java.util.UUID;
 import java.util.logging.Level;
 
 final class ChatListener implements Listener {
 
+    private static final Component SEPARATOR = Component.text(": ", NamedTextColor.GRAY);
+
     private final Plugin plugin;
     private final ChatFormatService formatService;
     private final boolean useLuckPerms;
@@ -73,12 +78,12 @@ final class ChatListener implements Listener {
                 Component.text(event.getPlayer().getName(), NamedTextColor.WHITE),
                 NamedTextColor.WHITE
             );
-            ChatFormatService.Format captured = combinePrefix(fallback, cosmeticPrefix);
-            event.renderer((source, sourceDisplayName, message, viewer) -> render(captured, message, source, viewer, tooltip));
+            event.renderer(new SharedRenderer(combinePrefix(fallback, cosmeticPrefix), tooltip));
             return;
         }
         ChatFormatService.Format format;
         try {
+            // Warmed on join and invalidated on rank or level changes, so this is normally already complete
             format = formatService.format(event.getPlayer()).join();
         } catch (RuntimeException runtimeException) {
             plugin.getLogger().log(Level.SEVERE, "Failed to format chat message", runtimeException);
@@ -88,14 +93,26 @@ final class ChatListener implements Listener {
                 NamedTextColor.WHITE
             );
         }
-        ChatFormatService.Format captured = combinePrefix(format, cosmeticPrefix);
-        event.renderer((source, sourceDisplayName, message, viewer) -> render(captured, message, source, viewer, tooltip));
+        event.renderer(new SharedRenderer(combinePrefix(format, cosmeticPrefix), tooltip));
+    }
+
+    @EventHandler
+    public void onJoin(PlayerJoinEvent event) {
+        if (useLuckPerms) {
+            formatService.format(event.getPlayer());
+        }
+        cosmeticPrefixService.prefix(event.getPlayer().getUniqueId());
     }
 
     @EventHandler
     public void onQuit(PlayerQuitEvent event) {
-        channelService.clear(event.getPlayer().getUniqueId());
-        playerDirectoryService.evict(event.getPlayer().getUniqueId());
+        UUID playerId = event.getPlayer().getUniqueId();
+        channelService.clear(playerId);
+        playerDirectoryService.evict(playerId);
+        cosmeticPrefixService.forget(playerId);
+        if (useLuckPerms) {
+            formatService.invalidate(playerId);
+        }
     }
 
     private void handleDirect(AsyncChatEvent event, ChatChannelService.ChatChannel channel) {
@@ -123,32 +140,44 @@ final class ChatListener implements Listener {
         event.renderer((source, sourceDisplayName, message, viewer) -> staffChatFormatter.format(event.getPlayer(), event.message(), viewer));
     }
 
-    private Component render(ChatFormatService.Format format, Component message, org.bukkit.entity.Player source, Audience viewer, Component tooltip) {
-        TextColor chatColor = format.chatColor() == null ? NamedTextColor.WHITE : format.chatColor();
-        Component coloredMessage = message.color(chatColor);
-        Component prefixPart = format.prefix();
-        TextColor nameColor = format.name().color();
-        if (nameColor == null) {
-            nameColor = NamedTextColor.WHITE;
-        }
+    private Component nameFor(org.bukkit.entity.Player source, Audience viewer, TextColor nameColor, Component tooltip) {
         Component nameComponent = resolveDisplayName(source, viewer, nameColor);
         if (tooltip != null) {
             nameComponent = nameComponent.hoverEvent(HoverEvent.showText(tooltip));
         }
-        if (!prefixPart.equals(Component.empty())) {
-            return Component.text()
-                .append(prefixPart)
-                .append(Component.space())
-                .append(nameComponent)
-                .append(Component.text(": ", NamedTextColor.GRAY))
-                .append(coloredMessage)
+        return nameComponent;
+    }
+
+    /**
+     * Builds the prefix and message parts once per message; only the name is resolved per viewer.
+     */
+    private final class SharedRenderer implements ChatRenderer {
+        private final Component prefixPart;
+        private final TextColor chatColor;
+        private final TextColor nameColor;
+        private final Component tooltip;
+
+        private SharedRenderer(ChatFormatService.Format format, Component tooltip) {
+            Component prefix = format.prefix();
+            this.prefixPart = prefix.equals(Component.empty()) ? null : prefix;
+            this.chatColor = format.chatColor() == null ? NamedTextColor.WHITE : format.chatColor();
+            TextColor resolvedName = format.name().color();
+            this.nameColor = resolvedName == null ? NamedTextColor.WHITE : resolvedName;
+            this.tooltip = tooltip;
+        }
+
+        @Override
+        public Component render(org.bukkit.entity.Player source, Component sourceDisplayName, Component message, Audience viewer) {
+            var builder = Component.text();
+            if (prefixPart != null) {
+                builder.append(prefixPart).append(Component.space());
+            }
+            return builder
+                .append(nameFor(source, viewer, nameColor, tooltip))
+                .append(SEPARATOR)
+                .append(message.color(chatColor))
                 .build();
         }
-        return Component.text()
-            .append(nameComponent)
-            .append(Component.text(": ", NamedTextColor.GRAY))
-            .append(coloredMessage)
-            .build();
     }
 
     private Component resolveCosmeticPrefix(java.util.UUID playerId) {
@@ -1,6 +1,8 @@
 package sh.harold.fulcrum.plugin.chat;
 
 import net.luckperms.api.LuckPerms;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import org.bukkit.plugin.PluginManager;
@@ -21,6 +23,7 @@ import sh.harold.fulcrum.plugin.message.MessageService;
 import sh.harold.fulcrum.plugin.permissions.LuckPermsModule;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDataModule;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDirectoryService;
+import sh.harold.fulcrum.plugin.playerdata.PlayerLevelingService;
 import sh.harold.fulcrum.plugin.playerdata.UsernameDisplayService;
 import sh.harold.fulcrum.plugin.unlockable.ChatCosmeticPrefixService;
 
@@ -40,6 +43,9 @@ public final class ChatModule implements FulcrumModule {
     private final ChatCosmeticPrefixService cosmeticPrefixService;
     private StaffChatFormatter staffChatFormatter;
     private StaffChatBossBarService staffChatBossBarService;
+    private EventSubscription<UserDataRecalculateEvent> rankSubscription;
+    private PlayerLevelingService.LevelUpdateListener levelListener;
+    private PlayerLevelingService levelingService;
 
     public ChatModule(
         JavaPlugin plugin,
@@ -75,6 +81,13 @@ public final class ChatModule implements FulcrumModule {
         var levelingService = playerDataModule.playerLevelingService()
             .orElseThrow(() -> new IllegalStateException("PlayerLevelingService not available"));
         ChatFormatService chatFormatService = luckPerms == null ? null : new ChatFormatService(luckPerms, levelingService);
+        if (chatFormatService != null) {
+            rankSubscription = luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                event -> chatFormatService.invalidate(event.getUser().getUniqueId()));
+            levelListener = (playerId, progress) -> chatFormatService.invalidate(playerId);
+            levelingService.addListener(levelListener);
+            this.levelingService = levelingService;
+        }
         UsernameDisplayService usernameDisplayService = playerDataModule.usernameDisplayService().orElse(null);
         PlayerDirectoryService playerDirectoryService = playerDataModule.playerDirectoryService()
             .orElseThrow(() -> new IllegalStateException("PlayerDirectoryService not available"));
@@ -91,6 +104,20 @@ public final class ChatModule implements FulcrumModule {
         return CompletableFuture.completedFuture(null);
     }
 
+    @Override
+    public CompletionStage<Void> disable() {
+        if (rankSubscription != null) {
+            rankSubscription.close();
+            rankSubscription = null;
+        }
+        if (levelListener != null && levelingService != null) {
+            levelingService.removeListener(levelListener);
+        }
+        levelListener = null;
+        levelingService = null;
+        return CompletableFuture.completedFuture(null);
+    }
+
     private void registerCommands(ReloadableRegistrarEvent<Commands> event) {
         Commands registrar = event.registrar();
         LiteralCommandNode<CommandSourceStack> root = Commands.literal("chat")
@@ -16,6 +16,7 @@ import sh.harold.fulcrum.common.loader.ModuleId;
 import sh.harold.fulcrum.plugin.config.FeatureConfigService;
 
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -28,6 +29,8 @@ import java.util.concurrent.TimeUnit;
 
 public final class DataModule implements FulcrumModule {
 
+    private static final Duration PLAYER_WRITE_WINDOW = Duration.ofMillis(500);
+
     private final JavaPlugin plugin;
     private final Path storagePath;
     private ExecutorService executor;
@@ -35,6 +38,7 @@ public final class DataModule implements FulcrumModule {
     private LedgerRepository ledgerRepository;
     private ItemLedgerRepository itemLedgerRepository;
     private DataApi dataApi;
+    private DocumentWriteQueue playerWrites;
     private FeatureConfigService configService;
     private DataConfig config;
 
@@ -58,6 +62,7 @@ public final class DataModule implements FulcrumModule {
             ledgerRepository = createLedger(config, executor);
             itemLedgerRepository = createItemLedger(config, executor);
             dataApi = DataApi.using(store, executor, ledgerRepository, itemLedgerRepository);
+            playerWrites = new DocumentWriteQueue(dataApi.collection("players"), PLAYER_WRITE_WINDOW, plugin.getLogger());
             plugin.getLogger().info(() -> "data store: " + config.store()
                 + " at " + storagePath.toAbsolutePath()
                 + " mysql=" + config.mysql().host() + ":" + config.mysql().port() + "/" + config.mysql().database()
@@ -67,6 +72,9 @@ public final class DataModule implements FulcrumModule {
 
     @Override
     public CompletionStage<Void> disable() {
+        if (playerWrites != null) {
+            playerWrites.close();
+        }
         if (dataApi != null) {
             dataApi.close();
         }
@@ -89,6 +97,13 @@ public final class DataModule implements FulcrumModule {
         return Optional.ofNullable(dataApi);
     }
 
+    /**
+     * Coalescing queue for small player-document writes such as settings toggles and vanish state.
+     */
+    public Optional<DocumentWriteQueue> playerWrites() {
+        return Optional.ofNullable(playerWrites);
+    }
+
     public Optional<DocumentStore> documentStore() {
         return Optional.ofNullable(store);
     }
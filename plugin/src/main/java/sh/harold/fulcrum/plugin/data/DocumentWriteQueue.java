@@ -0,0 +1,148 @@
+package sh.harold.fulcrum.plugin.data;
+
+import sh.harold.fulcrum.common.data.DocumentCollection;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Coalesces small flag-style writes per document. Paths touched within the window are merged, last write wins,
+ * and sent as one patch; writes for the same document are applied in order.
+ */
+public final class DocumentWriteQueue implements AutoCloseable {
+
+    private static final Duration CLOSE_TIMEOUT = Duration.ofSeconds(5);
+
+    private final DocumentCollection collection;
+    private final Executor delayedExecutor;
+    private final Logger logger;
+    private final Map<String, Pending> pending = new ConcurrentHashMap<>();
+    private final Map<String, CompletableFuture<Void>> inflight = new ConcurrentHashMap<>();
+
+    public DocumentWriteQueue(DocumentCollection collection, Duration window, Logger logger) {
+        this.collection = Objects.requireNonNull(collection, "collection");
+        Objects.requireNonNull(window, "window");
+        this.delayedExecutor = CompletableFuture.delayedExecutor(window.toMillis(), TimeUnit.MILLISECONDS);
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    public CompletionStage<Void> set(String id, String path, Object value) {
+        Objects.requireNonNull(path, "path");
+        return enqueue(id, entry -> entry.set(path, value));
+    }
+
+    public CompletionStage<Void> remove(String id, String path) {
+        Objects.requireNonNull(path, "path");
+        return enqueue(id, entry -> entry.remove(path));
+    }
+
+    /**
+     * Sends anything queued for the document now; completes once every earlier write for it has settled.
+     * Callers about to read the document straight from the store should wait on this first. A failed write is
+     * logged and reported to its {@code set}/{@code remove} callers, not to the reader.
+     */
+    public CompletionStage<Void> flush(String id) {
+        Objects.requireNonNull(id, "id");
+        Pending entry = pending.remove(id);
+        if (entry == null) {
+            CompletableFuture<Void> current = inflight.get(id);
+            return current == null
+                ? CompletableFuture.completedFuture(null)
+                : current.handle((ignored, throwable) -> null);
+        }
+        CompletableFuture<Void> write = inflight.compute(id, (key, previous) -> {
+            CompletableFuture<Void> after = previous == null
+                ? CompletableFuture.completedFuture(null)
+                : previous.handle((ignored, throwable) -> null);
+            return after.thenCompose(ignored -> collection.patch(id, entry.setValues, entry.removePaths).toCompletableFuture());
+        });
+        write.whenComplete((ignored, throwable) -> {
+            inflight.remove(id, write);
+            if (throwable != null) {
+                logger.log(Level.WARNING, "[data] queued write failed for " + collection.name() + "/" + id
+                    + " paths=" + entry.paths(), throwable);
+                entry.completion.completeExceptionally(throwable);
+                return;
+            }
+            entry.completion.complete(null);
+        });
+        return entry.completion.handle((ignored, throwable) -> null);
+    }
+
+    public CompletionStage<Void> flushAll() {
+        List<CompletableFuture<Void>> writes = new ArrayList<>();
+        for (String id : List.copyOf(pending.keySet())) {
+            writes.add(flush(id).toCompletableFuture());
+        }
+        inflight.values().forEach(writes::add);
+        return CompletableFuture.allOf(writes.toArray(CompletableFuture[]::new))
+            .handle((ignored, throwable) -> null);
+    }
+
+    @Override
+    public void close() {
+        try {
+            flushAll().toCompletableFuture().get(CLOSE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception exception) {
+            logger.log(Level.WARNING, "[data] queued writes for " + collection.name() + " did not finish before shutdown", exception);
+        }
+    }
+
+    private CompletionStage<Void> enqueue(String id, Consumer<Pending> change) {
+        Objects.requireNonNull(id, "id");
+        Pending entry = pending.compute(id, (key, existing) -> {
+            Pending target = existing == null ? new Pending() : existing;
+            change.accept(target);
+            return target;
+        });
+        if (entry.markScheduled()) {
+            delayedExecutor.execute(() -> flush(id));
+        }
+        return entry.completion;
+    }
+
+    private static final class Pending {
+        private final Map<String, Object> setValues = new LinkedHashMap<>();
+        private final Set<String> removePaths = new LinkedHashSet<>();
+        private final CompletableFuture<Void> completion = new CompletableFuture<>();
+        private boolean scheduled;
+
+        private void set(String path, Object value) {
+            removePaths.remove(path);
+            setValues.put(path, value);
+        }
+
+        private void remove(String path) {
+            setValues.remove(path);
+            removePaths.add(path);
+        }
+
+        private synchronized boolean markScheduled() {
+            if (scheduled) {
+                return false;
+            }
+            scheduled = true;
+            return true;
+        }
+
+        private String paths() {
+            Set<String> paths = new LinkedHashSet<>(setValues.keySet());
+            paths.addAll(removePaths);
+            return paths.toString();
+        }
+    }
+}
@@ -7,7 +7,6 @@ import org.bukkit.Material;
 import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.event.inventory.ClickType;
 import net.kyori.adventure.text.event.ClickCallback;
@@ -66,6 +65,8 @@ public final class ItemBrowserService {
     private final MenuService menuService;
     private final Map<UUID, ItemBrowserSession> sessions = new ConcurrentHashMap<>();
     private final AtomicBoolean vanillaSeeded = new AtomicBoolean(false);
+    private final Object catalogLock = new Object();
+    private volatile ItemCatalog catalog;
     private final java.util.concurrent.Executor asyncPool = java.util.concurrent.Executors.newFixedThreadPool(
         Math.max(2, Runtime.getRuntime().availableProcessors() / 2),
         runnable -> {
@@ -90,7 +91,7 @@ public final class ItemBrowserService {
     }
 
     private java.util.concurrent.CompletionStage<Void> open(Player player, ItemBrowserSession session) {
-        List<MenuItem> content = buildContent(session);
+        List<MenuItem> content = buildContent(session, player);
 
         return menuService.createListMenu()
             .title("Item Browser")
@@ -119,22 +120,37 @@ public final class ItemBrowserService {
             });
     }
 
-    private List<MenuItem> buildContent(ItemBrowserSession session) {
-        return session.entries().stream()
-            .filter(entry -> session.state().sourceFilter().matches(entry.vanilla()))
-            .filter(entry -> session.state().rarityFilter().matches(entry.rarity()))
-            .filter(entry -> matchesSearch(session.state(), entry))
-            .sorted(session.state().sort().comparator())
-            .map(this::toDisplayItem)
-            .toList();
+    private List<MenuItem> buildContent(ItemBrowserSession session, Player viewer) {
+        ItemBrowserState state = session.state();
+        List<ItemEntry> view = session.catalog().view(state.sort(), state.sourceFilter(), state.rarityFilter());
+        List<MenuItem> content = new java.util.ArrayList<>(view.size());
+        for (ItemEntry entry : view) {
+            if (matchesSearch(state, entry)) {
+                content.add(toDisplayItem(session, entry, viewer));
+            }
+        }
+        return content;
     }
 
-    private List<ItemEntry> renderEntries(Player viewer) {
+    private ItemCatalog catalog() {
         ensureVanillaSeeded();
-        return itemEngine.registry().definitions().stream()
-            .map(item -> createEntry(item, viewer))
-            .sorted(Comparator.comparing(ItemEntry::sortKey))
-            .toList();
+        long version = itemEngine.registry().version();
+        ItemCatalog current = catalog;
+        if (current != null && current.version() == version) {
+            return current;
+        }
+        synchronized (catalogLock) {
+            current = catalog;
+            if (current == null || current.version() != version) {
+                List<ItemEntry> entries = itemEngine.registry().definitions().stream()
+                    .map(this::createEntry)
+                    .sorted(ItemSort.NAME.comparator())
+                    .toList();
+                current = new ItemCatalog(version, entries);
+                catalog = current;
+            }
+            return current;
+        }
     }
 
     private void ensureVanillaSeeded() {
@@ -145,39 +161,31 @@ public final class ItemBrowserService {
         }
     }
 
-    private ItemEntry createEntry(CustomItem item, Player viewer) {
+    private ItemEntry createEntry(CustomItem item) {
         ItemStack base = itemEngine.resolver().initializeItem(item);
-        ItemStack rendered = itemEngine.loreRenderer().render(base, viewer);
         ItemRarity rarity = item.component(ComponentType.VISUAL, VisualComponent.class)
             .map(VisualComponent::rarity)
             .orElse(ItemRarity.COMMON);
         ItemType type = ItemType.from(item.category());
-        Component displayName = displayName(rendered, item);
+        // Viewer-independent so the shared catalog sorts the same for everyone; pages render per viewer
+        Component displayName = itemEngine.loreRenderer().defaultDisplayName(item);
         String sortKey = PLAIN.serialize(displayName).toLowerCase(Locale.ROOT);
         boolean vanilla = item.id().startsWith("vanilla:");
-        return new ItemEntry(item, rendered, rarity, type, sortKey, displayName, vanilla);
-    }
-
-    private Component displayName(ItemStack stack, CustomItem item) {
-        ItemMeta meta = stack.getItemMeta();
-        if (meta != null && meta.hasDisplayName() && meta.displayName() != null) {
-            return meta.displayName();
-        }
-        return Component.text(item.id(), NamedTextColor.WHITE);
+        return new ItemEntry(item, base, rarity, type, sortKey, item.id().toLowerCase(Locale.ROOT), displayName, vanilla);
     }
 
-    private MenuItem toDisplayItem(ItemEntry entry) {
-        MenuButton button = MenuButton.builder(entry.rendered().getType())
+    private MenuItem toDisplayItem(ItemBrowserSession session, ItemEntry entry, Player viewer) {
+        return MenuButton.builder(entry.base().getType())
             .onClick(player -> giveItem(player, entry))
             .skipClickPrompt()
+            .displayItem(() -> session.rendered().computeIfAbsent(entry.definition().id(),
+                ignored -> itemEngine.loreRenderer().render(entry.base(), viewer)))
             .build();
-        button.setDisplayItem(entry.rendered());
-        return button;
     }
 
     private void giveItem(Player player, ItemEntry entry) {
         ItemStack copy = itemEngine.createItem(entry.definition().id(), ItemCreationSource.CREATIVE, player.getUniqueId())
-            .orElse(entry.rendered().clone());
+            .orElse(entry.base().clone());
         var leftover = player.getInventory().addItem(copy);
         leftover.values().forEach(item -> player.getWorld().dropItemNaturally(player.getLocation(), item));
         player.sendMessage(Component.text("Spawned " + copy.getAmount() + "x " + entry.definition().id() + ".", NamedTextColor.GREEN));
@@ -318,10 +326,13 @@ public final class ItemBrowserService {
 
     private java.util.concurrent.CompletionStage<ItemBrowserSession> buildSession(Player player, ItemBrowserState state) {
         ItemBrowserSession cached = currentSession(player);
-        if (cached != null) {
-            return CompletableFuture.completedFuture(new ItemBrowserSession(cached.entries(), state));
+        if (cached != null && cached.catalog().version() == itemEngine.registry().version()) {
+            return CompletableFuture.completedFuture(cached.withState(state));
         }
-        return CompletableFuture.supplyAsync(() -> new ItemBrowserSession(renderEntries(player), state), asyncPool);
+        return CompletableFuture.supplyAsync(
+            () -> new ItemBrowserSession(catalog(), new ConcurrentHashMap<>(), state),
+            asyncPool
+        );
     }
 
     private void reopenBrowser(Player player) {
@@ -341,7 +352,7 @@ public final class ItemBrowserService {
         menu.getContext().setProperty(SESSION_KEY, session);
         storeSession(menu.getContext().getViewer(), session);
         menu.clearContentItems();
-        menu.addContentItems(buildContent(session));
+        menu.addContentItems(buildContent(session, menu.getContext().getViewer()));
         menu.setPersistentButton(buildFilterButton(session.state()), FILTER_SLOT);
         menu.setPersistentButton(buildSortButton(session.state()), SORT_SLOT);
         menu.setPersistentButton(buildSearchButton(session.state()), SEARCH_SLOT);
@@ -454,7 +465,7 @@ public final class ItemBrowserService {
             return true;
         }
         String needle = state.searchQuery().toLowerCase(Locale.ROOT);
-        return entry.sortKey().contains(needle) || entry.definition().id().toLowerCase(Locale.ROOT).contains(needle);
+        return entry.sortKey().contains(needle) || entry.searchId().contains(needle);
     }
 
     private void applySearch(Player player, String query) {
@@ -467,7 +478,7 @@ public final class ItemBrowserService {
             buildSession(player, ItemBrowserState.defaultState())
                 .thenCompose(built -> callSync(() -> {
                     ItemBrowserState nextState = transformer.apply(built.state());
-                    ItemBrowserSession updated = new ItemBrowserSession(built.entries(), nextState);
+                    ItemBrowserSession updated = built.withState(nextState);
                     return open(player, updated);
                 }))
                 .thenCompose(Function.identity())
@@ -479,7 +490,7 @@ public final class ItemBrowserService {
             return;
         }
         ItemBrowserState next = transformer.apply(session.state());
-        ItemBrowserSession updated = new ItemBrowserSession(session.entries(), next);
+        ItemBrowserSession updated = session.withState(next);
         storeSession(player, updated);
         if (!refreshOpenBrowser(player, updated)) {
             callSync(() -> open(player, updated))
@@ -685,18 +696,49 @@ public final class ItemBrowserService {
 
     private record ItemEntry(
         CustomItem definition,
-        ItemStack rendered,
+        ItemStack base,
         ItemRarity rarity,
         ItemType type,
         String sortKey,
+        String searchId,
         Component displayName,
         boolean vanilla
     ) {
     }
 
-    private record ItemBrowserSession(List<ItemEntry> entries, ItemBrowserState state) {
-        private ItemBrowserSession {
-            entries = List.copyOf(entries);
+    /**
+     * Entries for one registry version, shared by every viewer. Filtered views are built on first use.
+     */
+    private static final class ItemCatalog {
+        private final long version;
+        private final Map<ItemSort, List<ItemEntry>> sorted = new java.util.EnumMap<>(ItemSort.class);
+        private final Map<CatalogView, List<ItemEntry>> views = new ConcurrentHashMap<>();
+
+        ItemCatalog(long version, List<ItemEntry> byName) {
+            this.version = version;
+            for (ItemSort sort : ItemSort.values()) {
+                sorted.put(sort, byName.stream().sorted(sort.comparator()).toList());
+            }
+        }
+
+        long version() {
+            return version;
+        }
+
+        List<ItemEntry> view(ItemSort sort, SourceFilter source, ItemRarityFilter rarity) {
+            return views.computeIfAbsent(new CatalogView(sort, source, rarity), key -> sorted.get(sort).stream()
+                .filter(entry -> source.matches(entry.vanilla()))
+                .filter(entry -> rarity.matches(entry.rarity()))
+                .toList());
+        }
+    }
+
+    private record CatalogView(ItemSort sort, SourceFilter source, ItemRarityFilter rarity) {
+    }
+
+    private record ItemBrowserSession(ItemCatalog catalog, Map<String, ItemStack> rendered, ItemBrowserState state) {
+        ItemBrowserSession withState(ItemBrowserState next) {
+            return new ItemBrowserSession(catalog, rendered, next);
         }
     }
 
@@ -7,14 +7,17 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class ItemRegistry {
 
     private final Map<String, CustomItem> definitions = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
 
     public void register(CustomItem item) {
         Objects.requireNonNull(item, "item");
         definitions.put(item.id(), item);
+        version.incrementAndGet();
     }
 
     public Optional<CustomItem> get(String id) {
@@ -23,10 +26,26 @@ public final class ItemRegistry {
 
     public CustomItem getOrCreateVanilla(Material material, VanillaWrapperFactory wrapperFactory) {
         String id = "vanilla:" + material.getKey().getKey();
-        return definitions.computeIfAbsent(id, ignored -> wrapperFactory.wrap(material, id));
+        CustomItem existing = definitions.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        boolean[] created = new boolean[1];
+        CustomItem item = definitions.computeIfAbsent(id, ignored -> {
+            created[0] = true;
+            return wrapperFactory.wrap(material, id);
+        });
+        if (created[0]) {
+            version.incrementAndGet();
+        }
+        return item;
     }
 
     public java.util.Collection<CustomItem> definitions() {
         return java.util.Collections.unmodifiableCollection(definitions.values());
     }
+
+    public long version() {
+        return version.get();
+    }
 }
@@ -0,0 +1,88 @@
+package sh.harold.fulcrum.plugin.item.runtime;
+
+import org.bukkit.inventory.ItemStack;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Packs a list of item slots into one base64 string for document storage.
+ * <p>
+ * Each present item is written with {@link ItemStack#serializeAsBytes()}, which is already compressed NBT and
+ * carries its data version, so stored items upgrade through the server's own fixers on decode. Empty slots are
+ * kept as zero-length entries so slot positions survive a round trip.
+ */
+public final class ItemBlobCodec {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private ItemBlobCodec() {
+    }
+
+    public static String encode(List<ItemStack> items) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeInt(items.size());
+            for (ItemStack item : items) {
+                if (item == null || item.getType().isAir() || item.getAmount() <= 0) {
+                    out.writeInt(0);
+                    continue;
+                }
+                byte[] serialized = item.serializeAsBytes();
+                out.writeInt(serialized.length);
+                out.write(serialized);
+            }
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        return Base64.getEncoder().encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * Decodes a blob written by {@link #encode(List)}; empty slots come back as null.
+     *
+     * @throws IllegalArgumentException when the blob is malformed
+     */
+    public static List<ItemStack> decode(String blob) {
+        byte[] raw;
+        try {
+            raw = Base64.getDecoder().decode(blob);
+        } catch (IllegalArgumentException exception) {
+            throw new IllegalArgumentException("Item blob is not valid base64", exception);
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            int version = in.readUnsignedByte();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("Unsupported item blob version " + version);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > raw.length) {
+                throw new IllegalArgumentException("Invalid item blob slot count " + count);
+            }
+            List<ItemStack> items = new ArrayList<>(count);
+            for (int index = 0; index < count; index++) {
+                int length = in.readInt();
+                if (length == 0) {
+                    items.add(null);
+                    continue;
+                }
+                if (length < 0 || length > in.available()) {
+                    throw new IllegalArgumentException("Invalid item blob entry length " + length);
+                }
+                byte[] serialized = in.readNBytes(length);
+                items.add(ItemStack.deserializeBytes(serialized));
+            }
+            return items;
+        } catch (IOException exception) {
+            throw new IllegalArgumentException("Truncated item blob", exception);
+        }
+    }
+}
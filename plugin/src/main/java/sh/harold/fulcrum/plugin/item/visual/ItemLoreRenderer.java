@@ -64,6 +64,20 @@ public final class ItemLoreRenderer {
         return resolver.resolve(stack).map(instance -> renderInstance(instance, viewer)).orElse(stack);
     }
 
+    /**
+     * Name a definition renders with when no viewer-specific custom name applies.
+     */
+    public Component defaultDisplayName(CustomItem definition) {
+        VisualComponent visual = definition.component(ComponentType.VISUAL, VisualComponent.class).orElse(null);
+        return noItalics(rarityColorize(baseName(definition, visual), visual));
+    }
+
+    private Component baseName(CustomItem definition, VisualComponent visual) {
+        return visual != null && visual.hasDisplayName()
+            ? visual.displayName()
+            : Component.text(definition.id(), NamedTextColor.WHITE);
+    }
+
     private ItemStack renderInstance(ItemInstance instance, Player viewer) {
         ItemMeta sourceMeta = instance.stack().getItemMeta();
         ItemStack clone = instance.stack().clone();
@@ -82,10 +96,7 @@ public final class ItemLoreRenderer {
             return clone;
         }
         VisualComponent visual = definition.component(ComponentType.VISUAL, VisualComponent.class).orElse(null);
-        Component baseName = visual != null && visual.hasDisplayName()
-            ? visual.displayName()
-            : Component.text(definition.id(), NamedTextColor.WHITE);
-        Component defaultDisplayName = rarityColorize(baseName, visual);
+        Component defaultDisplayName = rarityColorize(baseName(definition, visual), visual);
         String customName = customName(sourceMeta, defaultDisplayName, definition.material());
         boolean showCustomInline = playerSettingsService != null
             && playerSettingsService.cachedCustomItemNames(viewer.getUniqueId())
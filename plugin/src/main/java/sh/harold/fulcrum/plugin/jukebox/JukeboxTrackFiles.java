@@ -3,11 +3,12 @@ package sh.harold.fulcrum.plugin.jukebox;
 import java.nio.file.Path;
 import java.util.Objects;
 
-public record JukeboxTrackFiles(Path pcmPath, Path jsonPath) {
+public record JukeboxTrackFiles(Path pcmPath, Path jsonPath, Path opusCachePath) {
 
     public JukeboxTrackFiles {
         Objects.requireNonNull(pcmPath, "pcmPath");
         Objects.requireNonNull(jsonPath, "jsonPath");
+        Objects.requireNonNull(opusCachePath, "opusCachePath");
     }
 
     public static JukeboxTrackFiles forTrack(Path tracksDirectory, String trackId) {
@@ -15,8 +16,8 @@ public record JukeboxTrackFiles(Path pcmPath, Path jsonPath) {
         Objects.requireNonNull(trackId, "trackId");
         return new JukeboxTrackFiles(
             tracksDirectory.resolve(trackId + ".pcm"),
-            tracksDirectory.resolve(trackId + ".json")
+            tracksDirectory.resolve(trackId + ".json"),
+            tracksDirectory.resolve(trackId + ".opuscache")
         );
     }
 }
-
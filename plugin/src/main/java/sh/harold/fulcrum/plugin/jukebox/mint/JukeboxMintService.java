@@ -271,6 +271,7 @@ public final class JukeboxMintService implements AutoCloseable {
         JukeboxTrackFiles files = JukeboxTrackFiles.forTrack(config.tracksDirectory(), trackId);
         Files.deleteIfExists(files.jsonPath());
         Files.deleteIfExists(files.pcmPath());
+        Files.deleteIfExists(files.opusCachePath());
     }
 
     private String uploadUrl(String trackId, String token) {
@@ -0,0 +1,180 @@
+package sh.harold.fulcrum.plugin.jukebox.playback;
+
+import de.maxhenkel.voicechat.api.opus.OpusEncoder;
+import sh.harold.fulcrum.plugin.jukebox.JukeboxPcmFormat;
+import sh.harold.fulcrum.plugin.jukebox.JukeboxTrackMetadata;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Framed Opus cache for a validated PCM track.
+ * <p>
+ * Layout: a fixed header, an index of {@code frameCount} data offsets, then one length-prefixed packet per frame.
+ * The header records the PCM length and fade-in it was built from, plus the packet data length, so a stale or
+ * truncated cache is rejected on open from the header and file size alone. Files are only ever moved into place
+ * complete, so the frames themselves are not re-walked.
+ */
+final class JukeboxOpusCache {
+
+    private static final int MAGIC = 0x464A4F43;
+    private static final int FORMAT_VERSION = 2;
+    private static final int HEADER_BYTES = Integer.BYTES * 3 + Long.BYTES * 3;
+
+    private JukeboxOpusCache() {
+    }
+
+    static long expectedFrameCount(long pcmByteLength) {
+        return (pcmByteLength + JukeboxPcmFormat.FRAME_BYTES - 1) / JukeboxPcmFormat.FRAME_BYTES;
+    }
+
+    /**
+     * Encodes the whole PCM track into a cache file, replacing any existing one atomically.
+     */
+    static void build(Path pcmPath, Path cachePath, JukeboxTrackMetadata metadata, Duration fadeIn, OpusEncoder encoder)
+        throws IOException {
+        Objects.requireNonNull(encoder, "encoder");
+        long frameCount = expectedFrameCount(metadata.fileByteLength());
+        if (frameCount > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IOException("Track too long to cache: " + frameCount + " frames");
+        }
+        int frames = (int) frameCount;
+        Path tempPath = cachePath.resolveSibling(cachePath.getFileName() + ".tmp");
+        ByteBuffer index = ByteBuffer.allocate(frames * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+
+        try (FileChannel pcm = FileChannel.open(pcmPath, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(tempPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                 StandardOpenOption.TRUNCATE_EXISTING)) {
+            long dataStart = HEADER_BYTES + (long) frames * Integer.BYTES;
+            out.position(dataStart);
+            ByteBuffer frameBuffer = ByteBuffer.allocateDirect(JukeboxPcmFormat.FRAME_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            for (int frameIndex = 0; frameIndex < frames; frameIndex++) {
+                frameBuffer.clear();
+                int bytesRead = readFrame(pcm, frameBuffer);
+                short[] samples = PcmTrackStream.decodeFrame(frameBuffer, bytesRead);
+                PcmTrackStream.applyFadeIn(samples, frameIndex, fadeIn);
+                byte[] packet = encoder.encode(samples);
+                if (packet.length > Short.MAX_VALUE) {
+                    throw new IOException("Opus packet too large: " + packet.length + " bytes");
+                }
+                index.putInt((int) (out.position() - dataStart));
+                ByteBuffer framed = ByteBuffer.allocate(Short.BYTES + packet.length).order(ByteOrder.LITTLE_ENDIAN);
+                framed.putShort((short) packet.length).put(packet).flip();
+                writeFully(out, framed);
+            }
+            long dataBytes = out.position() - dataStart;
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(MAGIC)
+                .putInt(FORMAT_VERSION)
+                .putLong(fadeIn.toMillis())
+                .putLong(metadata.fileByteLength())
+                .putInt(frames)
+                .putLong(dataBytes)
+                .flip();
+            out.position(0L);
+            writeFully(out, header);
+            index.flip();
+            writeFully(out, index);
+            out.force(true);
+        } catch (IOException | RuntimeException exception) {
+            Files.deleteIfExists(tempPath);
+            throw exception;
+        }
+        Files.move(tempPath, cachePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the cache if it exists and matches the track and fade-in, otherwise returns null.
+     */
+    static Reader openVerified(Path cachePath, JukeboxTrackMetadata metadata, Duration fadeIn) throws IOException {
+        if (!Files.exists(cachePath)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(cachePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0L, size);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != FORMAT_VERSION) {
+                return null;
+            }
+            if (mapped.getLong(8) != fadeIn.toMillis() || mapped.getLong(16) != metadata.fileByteLength()) {
+                return null;
+            }
+            int frames = mapped.getInt(24);
+            if (frames != expectedFrameCount(metadata.fileByteLength())) {
+                return null;
+            }
+            long dataStart = HEADER_BYTES + (long) frames * Integer.BYTES;
+            long dataBytes = mapped.getLong(28);
+            if (dataBytes < 0L || dataStart + dataBytes != size) {
+                return null;
+            }
+            return new Reader(mapped, frames, (int) dataStart);
+        }
+    }
+
+    private static int readFrame(FileChannel channel, ByteBuffer buffer) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer);
+            if (read < 0) {
+                break;
+            }
+            total += read;
+        }
+        return total;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Streams packets straight out of the mapped cache; no reader thread or encoder is involved.
+     */
+    static final class Reader implements JukeboxPacketSource {
+
+        private final MappedByteBuffer mapped;
+        private final int frameCount;
+        private final int dataStart;
+        private int nextFrame;
+
+        private Reader(MappedByteBuffer mapped, int frameCount, int dataStart) {
+            this.mapped = mapped;
+            this.frameCount = frameCount;
+            this.dataStart = dataStart;
+        }
+
+        @Override
+        public byte[] nextPacket() {
+            if (nextFrame >= frameCount) {
+                return null;
+            }
+            int offset = dataStart + mapped.getInt(HEADER_BYTES + nextFrame * Integer.BYTES);
+            int length = mapped.getShort(offset);
+            byte[] packet = new byte[length];
+            mapped.get(offset + Short.BYTES, packet);
+            nextFrame++;
+            return packet;
+        }
+
+        @Override
+        public void close() {
+            nextFrame = frameCount;
+        }
+    }
+}
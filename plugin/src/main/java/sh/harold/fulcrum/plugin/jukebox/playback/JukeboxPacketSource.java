@@ -0,0 +1,64 @@
+package sh.harold.fulcrum.plugin.jukebox.playback;
+
+import de.maxhenkel.voicechat.api.opus.OpusEncoder;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Supplies one encoded Opus packet per 20 ms frame, returning null once the track has ended.
+ */
+interface JukeboxPacketSource extends AutoCloseable {
+
+    default void start() {
+    }
+
+    byte[] nextPacket();
+
+    default Optional<Throwable> error() {
+        return Optional.empty();
+    }
+
+    @Override
+    void close();
+
+    static JukeboxPacketSource encoding(PcmTrackStream stream, OpusEncoder encoder) {
+        return new Encoding(stream, encoder);
+    }
+
+    /**
+     * Real-time fallback for tracks without a usable Opus cache.
+     */
+    final class Encoding implements JukeboxPacketSource {
+
+        private final PcmTrackStream stream;
+        private final OpusEncoder encoder;
+
+        private Encoding(PcmTrackStream stream, OpusEncoder encoder) {
+            this.stream = Objects.requireNonNull(stream, "stream");
+            this.encoder = Objects.requireNonNull(encoder, "encoder");
+        }
+
+        @Override
+        public void start() {
+            stream.start();
+        }
+
+        @Override
+        public byte[] nextPacket() {
+            short[] frame = stream.get();
+            return frame == null ? null : encoder.encode(frame);
+        }
+
+        @Override
+        public Optional<Throwable> error() {
+            return stream.error();
+        }
+
+        @Override
+        public void close() {
+            stream.close();
+            encoder.close();
+        }
+    }
+}
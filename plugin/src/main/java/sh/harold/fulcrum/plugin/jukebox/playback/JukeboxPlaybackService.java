@@ -3,7 +3,6 @@ package sh.harold.fulcrum.plugin.jukebox.playback;
 import de.maxhenkel.voicechat.api.BukkitVoicechatService;
 import de.maxhenkel.voicechat.api.ServerLevel;
 import de.maxhenkel.voicechat.api.VoicechatServerApi;
-import de.maxhenkel.voicechat.api.audiochannel.AudioPlayer;
 import de.maxhenkel.voicechat.api.audiochannel.LocationalAudioChannel;
 import de.maxhenkel.voicechat.api.opus.OpusEncoder;
 import de.maxhenkel.voicechat.api.opus.OpusEncoderMode;
@@ -29,6 +28,7 @@ import java.io.IOException;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -42,6 +42,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, Listener {
 
     private static final String VOICECHAT_PLUGIN_NAME = "voicechat";
+    private static final long SYNC_JOIN_FRAMES = 5L;
 
     private final JavaPlugin plugin;
     private final Logger logger;
@@ -50,6 +51,8 @@ public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, List
     private final JukeboxTrackReader trackReader;
     private final ExecutorService ioExecutor;
     private final Map<JukeboxPlaybackKey, JukeboxPlaybackSession> sessions;
+    private final Set<JukeboxTrackBroadcast> broadcasts;
+    private final Set<String> cacheBuilds;
     private final AtomicBoolean voicechatPluginRegistered;
 
     public JukeboxPlaybackService(JavaPlugin plugin, JukeboxConfig config) {
@@ -60,6 +63,8 @@ public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, List
         this.trackReader = new JukeboxTrackReader();
         this.ioExecutor = Executors.newVirtualThreadPerTaskExecutor();
         this.sessions = new ConcurrentHashMap<>();
+        this.broadcasts = ConcurrentHashMap.newKeySet();
+        this.cacheBuilds = ConcurrentHashMap.newKeySet();
         this.voicechatPluginRegistered = new AtomicBoolean(false);
 
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
@@ -125,19 +130,22 @@ public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, List
         if (session == null) {
             return false;
         }
-        stopSession(session);
+        stopSession(key, session);
         return true;
     }
 
     public void stopAll() {
-        sessions.values().forEach(this::stopSession);
+        sessions.forEach((key, session) -> stopSession(key, session));
         sessions.clear();
+        broadcasts.forEach(JukeboxTrackBroadcast::close);
+        broadcasts.clear();
     }
 
     @Override
     public void close() {
         stopAll();
         voicechatApi.clear();
+        ioExecutor.shutdownNow();
         ioExecutor.close();
         HandlerList.unregisterAll(this);
     }
@@ -148,16 +156,64 @@ public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, List
         try {
             metadata = trackReader.read(files.jsonPath());
         } catch (IOException exception) {
-            return new TrackLoad(trackId, null, files, JukeboxTrackValidation.invalid("Track metadata unreadable."));
+            return new TrackLoad(trackId, null, files, JukeboxTrackValidation.invalid("Track metadata unreadable."), null);
         }
         if (metadata.isEmpty()) {
-            return new TrackLoad(trackId, null, files, JukeboxTrackValidation.invalid("Track metadata missing."));
+            return new TrackLoad(trackId, null, files, JukeboxTrackValidation.invalid("Track metadata missing."), null);
         }
         JukeboxTrackMetadata resolved = metadata.get();
         if (!trackId.equals(resolved.trackId())) {
-            return new TrackLoad(trackId, resolved, files, JukeboxTrackValidation.invalid("Track ID mismatch."));
+            return new TrackLoad(trackId, resolved, files, JukeboxTrackValidation.invalid("Track ID mismatch."), null);
+        }
+        JukeboxTrackValidation validation = JukeboxTrackValidator.validateReady(resolved, config, files.pcmPath());
+        if (!validation.valid()) {
+            return new TrackLoad(trackId, resolved, files, validation, null);
+        }
+        return new TrackLoad(trackId, resolved, files, validation, openOpusCache(resolved, files));
+    }
+
+    /**
+     * Returns the verified Opus cache for a ready track, or null when it is missing or stale. A missing cache is
+     * built in the background, so this session encodes in real time and later starts read the cache.
+     */
+    private JukeboxOpusCache.Reader openOpusCache(JukeboxTrackMetadata metadata, JukeboxTrackFiles files) {
+        try {
+            JukeboxOpusCache.Reader reader = JukeboxOpusCache.openVerified(files.opusCachePath(), metadata, config.fadeIn());
+            if (reader != null) {
+                return reader;
+            }
+        } catch (IOException | RuntimeException exception) {
+            logger.log(Level.WARNING, "jukebox: Failed to open Opus cache for " + metadata.trackId(), exception);
+        }
+        if (cacheBuilds.add(metadata.trackId())) {
+            try {
+                ioExecutor.execute(() -> buildOpusCache(metadata, files));
+            } catch (RuntimeException exception) {
+                cacheBuilds.remove(metadata.trackId());
+                throw exception;
+            }
+        }
+        return null;
+    }
+
+    private void buildOpusCache(JukeboxTrackMetadata metadata, JukeboxTrackFiles files) {
+        try {
+            VoicechatServerApi api = voicechatApi.serverApi().orElse(null);
+            if (api == null) {
+                return;
+            }
+            OpusEncoder encoder = api.createEncoder(OpusEncoderMode.AUDIO);
+            try {
+                JukeboxOpusCache.build(files.pcmPath(), files.opusCachePath(), metadata, config.fadeIn(), encoder);
+            } finally {
+                encoder.close();
+            }
+            logger.info("jukebox: Built Opus cache for track " + metadata.trackId());
+        } catch (IOException | RuntimeException exception) {
+            logger.log(Level.WARNING, "jukebox: Failed to build Opus cache for " + metadata.trackId(), exception);
+        } finally {
+            cacheBuilds.remove(metadata.trackId());
         }
-        return new TrackLoad(trackId, resolved, files, JukeboxTrackValidator.validateReady(resolved, config, files.pcmPath()));
     }
 
     private StartResult startSync(Location location, TrackLoad load) {
@@ -190,53 +246,51 @@ public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, List
         LocationalAudioChannel channel = api.createLocationalAudioChannel(UUID.randomUUID(), serverLevel, api.createPosition(x, y, z));
         channel.setDistance((float) config.audibleRadiusBlocks());
 
-        OpusEncoder encoder = api.createEncoder(OpusEncoderMode.AUDIO);
-        PcmTrackStream stream = new PcmTrackStream(load.files.pcmPath(), 50, config.fadeIn());
-        stream.start();
-
-        AudioPlayer player = api.createAudioPlayer(channel, encoder, stream);
-        JukeboxPlaybackSession session = new JukeboxPlaybackSession(load.trackId, channel, player, encoder, stream);
-        sessions.put(key, session);
-        player.setOnStopped(() -> plugin.getServer().getScheduler().runTask(plugin, () -> handleStopped(key, session)));
-        player.startPlaying();
+        JukeboxTrackBroadcast broadcast = joinableBroadcast(load.trackId);
+        if (broadcast == null) {
+            JukeboxPacketSource source = load.cache != null
+                ? load.cache
+                : JukeboxPacketSource.encoding(
+                    new PcmTrackStream(load.files.pcmPath(), 50, config.fadeIn()),
+                    api.createEncoder(OpusEncoderMode.AUDIO)
+                );
+            broadcast = new JukeboxTrackBroadcast(load.trackId, source, logger,
+                finished -> plugin.getServer().getScheduler().runTask(plugin, () -> handleFinished(finished)));
+            broadcasts.add(broadcast);
+            broadcast.start();
+        }
+        broadcast.attach(key, channel);
+        sessions.put(key, new JukeboxPlaybackSession(load.trackId, channel, broadcast));
         return StartResult.ok();
     }
 
-    private void handleStopped(JukeboxPlaybackKey key, JukeboxPlaybackSession session) {
-        JukeboxPlaybackSession current = sessions.get(key);
-        if (current != session) {
-            return;
+    /**
+     * Finds a broadcast of the same track that has only just started, so this jukebox can join it in sync.
+     */
+    private JukeboxTrackBroadcast joinableBroadcast(String trackId) {
+        for (JukeboxTrackBroadcast broadcast : broadcasts) {
+            if (broadcast.isClosed() || !broadcast.trackId().equals(trackId)) {
+                continue;
+            }
+            if (broadcast.framesSent() <= SYNC_JOIN_FRAMES) {
+                return broadcast;
+            }
         }
-        sessions.remove(key);
-        stopSession(session, false);
+        return null;
     }
 
-    private void stopSession(JukeboxPlaybackSession session) {
-        stopSession(session, true);
+    private void handleFinished(JukeboxTrackBroadcast broadcast) {
+        broadcasts.remove(broadcast);
+        for (JukeboxPlaybackKey key : broadcast.keys()) {
+            sessions.computeIfPresent(key, (ignored, session) -> session.broadcast() == broadcast ? null : session);
+        }
     }
 
-    private void stopSession(JukeboxPlaybackSession session, boolean stopPlayer) {
-        if (stopPlayer) {
-            try {
-                session.player().stopPlaying();
-            } catch (Throwable throwable) {
-                logger.log(Level.FINE, "Failed to stop audio player", throwable);
-            }
-        }
-        try {
-            session.stream().close();
-        } catch (Throwable throwable) {
-            logger.log(Level.FINE, "Failed to close PCM stream", throwable);
-        }
-        try {
-            session.encoder().close();
-        } catch (Throwable throwable) {
-            logger.log(Level.FINE, "Failed to close opus encoder", throwable);
-        }
-        try {
-            session.channel().flush();
-        } catch (Throwable throwable) {
-            logger.log(Level.FINE, "Failed to flush audio channel", throwable);
+    private void stopSession(JukeboxPlaybackKey key, JukeboxPlaybackSession session) {
+        JukeboxTrackBroadcast broadcast = session.broadcast();
+        if (broadcast.detach(key)) {
+            broadcasts.remove(broadcast);
+            broadcast.close();
         }
     }
 
@@ -252,6 +306,7 @@ public final class JukeboxPlaybackService implements JukeboxPlaybackEngine, List
         return future;
     }
 
-    private record TrackLoad(String trackId, JukeboxTrackMetadata metadata, JukeboxTrackFiles files, JukeboxTrackValidation validation) {
+    private record TrackLoad(String trackId, JukeboxTrackMetadata metadata, JukeboxTrackFiles files, JukeboxTrackValidation validation,
+                             JukeboxOpusCache.Reader cache) {
     }
 }
@@ -0,0 +1,132 @@
+package sh.harold.fulcrum.plugin.jukebox.playback;
+
+import de.maxhenkel.voicechat.api.audiochannel.AudioChannel;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Plays one track from a single packet source, sending every packet to all attached channels.
+ */
+final class JukeboxTrackBroadcast {
+
+    private static final long FRAME_NANOS = TimeUnit.MILLISECONDS.toNanos(20L);
+
+    private final String trackId;
+    private final JukeboxPacketSource source;
+    private final Logger logger;
+    private final Map<JukeboxPlaybackKey, AudioChannel> channels = new ConcurrentHashMap<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final Consumer<JukeboxTrackBroadcast> onFinished;
+
+    private volatile long framesSent;
+    private Thread senderThread;
+
+    JukeboxTrackBroadcast(String trackId, JukeboxPacketSource source, Logger logger,
+                          Consumer<JukeboxTrackBroadcast> onFinished) {
+        this.trackId = Objects.requireNonNull(trackId, "trackId");
+        this.source = Objects.requireNonNull(source, "source");
+        this.logger = Objects.requireNonNull(logger, "logger");
+        this.onFinished = Objects.requireNonNull(onFinished, "onFinished");
+    }
+
+    String trackId() {
+        return trackId;
+    }
+
+    long framesSent() {
+        return framesSent;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    void start() {
+        if (senderThread != null) {
+            throw new IllegalStateException("Broadcast already started");
+        }
+        source.start();
+        senderThread = Thread.startVirtualThread(this::sendLoop);
+    }
+
+    void attach(JukeboxPlaybackKey key, AudioChannel channel) {
+        channels.put(key, channel);
+    }
+
+    /**
+     * Detaches a channel and returns true when no channels remain.
+     */
+    boolean detach(JukeboxPlaybackKey key) {
+        AudioChannel channel = channels.remove(key);
+        if (channel != null) {
+            flush(channel);
+        }
+        return channels.isEmpty();
+    }
+
+    Iterable<JukeboxPlaybackKey> keys() {
+        return channels.keySet();
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        if (senderThread != null) {
+            senderThread.interrupt();
+        }
+    }
+
+    private void sendLoop() {
+        long nextFrameAt = System.nanoTime();
+        try {
+            while (!closed.get()) {
+                byte[] packet = source.nextPacket();
+                if (packet == null) {
+                    break;
+                }
+                for (AudioChannel channel : channels.values()) {
+                    channel.send(packet);
+                }
+                framesSent++;
+                nextFrameAt += FRAME_NANOS;
+                long wait = nextFrameAt - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+            }
+            source.error().ifPresent(throwable ->
+                logger.log(Level.WARNING, "jukebox: Audio source failed for track " + trackId, throwable));
+        } catch (Throwable throwable) {
+            logger.log(Level.WARNING, "jukebox: Broadcast failed for track " + trackId, throwable);
+        } finally {
+            closed.set(true);
+            try {
+                source.close();
+            } catch (Throwable throwable) {
+                logger.log(Level.FINE, "Failed to close audio source", throwable);
+            }
+            channels.values().forEach(this::flush);
+            onFinished.accept(this);
+        }
+    }
+
+    private void flush(AudioChannel channel) {
+        try {
+            channel.flush();
+        } catch (Throwable throwable) {
+            logger.log(Level.FINE, "Failed to flush audio channel", throwable);
+        }
+    }
+}
@@ -21,7 +21,7 @@ import java.util.function.Supplier;
 
 public final class PcmTrackStream implements Supplier<short[]>, AutoCloseable {
 
-    private static final int FRAME_SAMPLES = JukeboxPcmFormat.FRAME_SAMPLES_PER_CHANNEL * JukeboxPcmFormat.CHANNELS;
+    static final int FRAME_SAMPLES = JukeboxPcmFormat.FRAME_SAMPLES_PER_CHANNEL * JukeboxPcmFormat.CHANNELS;
     private static final short[] SILENCE_FRAME = new short[FRAME_SAMPLES];
 
     private final Path pcmPath;
@@ -70,7 +70,7 @@ public final class PcmTrackStream implements Supplier<short[]>, AutoCloseable {
         if (frame == null) {
             return finished.get() ? null : SILENCE_FRAME.clone();
         }
-        applyFadeIn(frame);
+        applyFadeIn(frame, framesSupplied, fadeIn);
         framesSupplied++;
         return frame;
     }
@@ -118,7 +118,7 @@ public final class PcmTrackStream implements Supplier<short[]>, AutoCloseable {
         }
     }
 
-    private short[] decodeFrame(ByteBuffer buffer, int bytesRead) {
+    static short[] decodeFrame(ByteBuffer buffer, int bytesRead) {
         int safeBytesRead = Math.max(0, Math.min(bytesRead, JukeboxPcmFormat.FRAME_BYTES));
         int safeShortsRead = safeBytesRead / JukeboxPcmFormat.BYTES_PER_SAMPLE;
 
@@ -128,13 +128,12 @@ public final class PcmTrackStream implements Supplier<short[]>, AutoCloseable {
         return frame;
     }
 
-    private void applyFadeIn(short[] frame) {
+    static void applyFadeIn(short[] frame, long progressFrame, Duration fadeIn) {
         long fadeInMillis = fadeIn.toMillis();
         if (fadeInMillis <= 0) {
             return;
         }
         long fadeInFrames = Math.max(1, fadeInMillis / 20L);
-        long progressFrame = framesSupplied;
         if (progressFrame >= fadeInFrames) {
             return;
         }
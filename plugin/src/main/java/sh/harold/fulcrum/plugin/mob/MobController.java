@@ -11,6 +11,10 @@ public interface MobController {
     default void onUnload(LivingEntity entity) {
     }
 
+    /**
+     * Called every tick near players, every few ticks at mid range and not at all when no player is close. The
+     * {@code tick} counter keeps advancing while skipped, so elapsed time should be measured from it.
+     */
     default void tick(LivingEntity entity, long tick) {
     }
 
@@ -1,7 +1,5 @@
 package sh.harold.fulcrum.plugin.mob;
 
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.plugin.Plugin;
 import org.bukkit.scheduler.BukkitTask;
@@ -14,10 +12,17 @@ import java.util.concurrent.ConcurrentHashMap;
 
 final class MobControllerService {
 
+    private static final double NEAR_RANGE = 32.0;
+    private static final double MID_RANGE = 64.0;
+    private static final double NEAR_RANGE_SQUARED = NEAR_RANGE * NEAR_RANGE;
+    private static final double MID_RANGE_SQUARED = MID_RANGE * MID_RANGE;
+    private static final int MID_TICK_INTERVAL = 4;
+
     private final Plugin plugin;
     private final MobPdc mobPdc;
     private final MobRegistry registry;
-    private final Map<UUID, MobController> controllers = new ConcurrentHashMap<>();
+    private final Map<UUID, ControlledMob> controllers = new ConcurrentHashMap<>();
+    private final MobProximityGrid playerGrid = new MobProximityGrid();
     private BukkitTask tickTask;
     private long tick;
 
@@ -38,10 +43,10 @@ final class MobControllerService {
             tickTask.cancel();
             tickTask = null;
         }
-        for (Map.Entry<UUID, MobController> entry : controllers.entrySet()) {
-            Entity resolved = Bukkit.getEntity(entry.getKey());
-            if (resolved instanceof LivingEntity living && !living.isDead() && living.isValid()) {
-                entry.getValue().onUnload(living);
+        for (ControlledMob controlled : controllers.values()) {
+            LivingEntity living = controlled.entity();
+            if (!living.isDead() && living.isValid()) {
+                controlled.controller().onUnload(living);
             }
         }
         controllers.clear();
@@ -63,7 +68,7 @@ final class MobControllerService {
         controllers.computeIfAbsent(entity.getUniqueId(), ignored -> {
             MobController controller = definition.controllerFactory().create();
             controller.onSpawn(entity);
-            return controller;
+            return new ControlledMob(entity, controller);
         });
     }
 
@@ -71,9 +76,9 @@ final class MobControllerService {
         if (entity == null || event == null) {
             return;
         }
-        MobController controller = controllers.get(entity.getUniqueId());
-        if (controller != null) {
-            controller.onDamage(entity, event);
+        ControlledMob controlled = controllers.get(entity.getUniqueId());
+        if (controlled != null) {
+            controlled.controller().onDamage(entity, event);
         }
     }
 
@@ -81,9 +86,9 @@ final class MobControllerService {
         if (entity == null) {
             return;
         }
-        MobController controller = controllers.remove(entity.getUniqueId());
-        if (controller != null) {
-            controller.onDeath(entity);
+        ControlledMob controlled = controllers.remove(entity.getUniqueId());
+        if (controlled != null) {
+            controlled.controller().onDeath(entity);
         }
     }
 
@@ -91,22 +96,48 @@ final class MobControllerService {
         if (entity == null) {
             return;
         }
-        MobController controller = controllers.remove(entity.getUniqueId());
-        if (controller != null) {
-            controller.onUnload(entity);
+        ControlledMob controlled = controllers.remove(entity.getUniqueId());
+        if (controlled != null) {
+            controlled.controller().onUnload(entity);
         }
     }
 
     private void tickControllers() {
         tick++;
-        for (Map.Entry<UUID, MobController> entry : controllers.entrySet()) {
-            Entity resolved = Bukkit.getEntity(entry.getKey());
-            if (!(resolved instanceof LivingEntity living) || living.isDead() || !living.isValid()) {
-                controllers.remove(entry.getKey());
+        if (controllers.isEmpty()) {
+            return;
+        }
+        playerGrid.rebuild(plugin.getServer().getOnlinePlayers());
+        for (Map.Entry<UUID, ControlledMob> entry : controllers.entrySet()) {
+            ControlledMob controlled = entry.getValue();
+            LivingEntity living = controlled.entity();
+            if (living.isDead() || !living.isValid()) {
+                controllers.remove(entry.getKey(), controlled);
                 continue;
             }
-            entry.getValue().tick(living, tick);
+            if (!shouldTick(living)) {
+                continue;
+            }
+            controlled.controller().tick(living, tick);
+        }
+    }
+
+    private boolean shouldTick(LivingEntity living) {
+        if (!living.isTicking() || playerGrid.isEmpty()) {
+            return false;
+        }
+        double distanceSquared = playerGrid.nearestDistanceSquared(living.getLocation(), MID_RANGE);
+        if (distanceSquared <= NEAR_RANGE_SQUARED) {
+            return true;
         }
+        if (distanceSquared <= MID_RANGE_SQUARED) {
+            // Offset by entity id so mid-range controllers spread across the interval instead of bunching on one tick.
+            return Math.floorMod(tick + living.getEntityId(), MID_TICK_INTERVAL) == 0;
+        }
+        return false;
+    }
+
+    private record ControlledMob(LivingEntity entity, MobController controller) {
     }
 }
 
@@ -27,10 +27,7 @@ final class MobHealthListener implements Listener {
         if (!(entity instanceof LivingEntity living)) {
             return;
         }
-        if (!engine.shouldShowNameplate(living)) {
-            return;
-        }
-        plugin.getServer().getScheduler().runTask(plugin, () -> engine.nameplateService().refresh(living, true, true));
+        refreshNameplate(living);
     }
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
@@ -39,10 +36,17 @@ final class MobHealthListener implements Listener {
         if (!(entity instanceof LivingEntity living)) {
             return;
         }
+        refreshNameplate(living);
+    }
+
+    private void refreshNameplate(LivingEntity living) {
+        // Visible plates only need their health label re-rendered; the next nameplate flush picks up the new value.
+        if (engine.nameplateService().refreshHealth(living)) {
+            return;
+        }
         if (!engine.shouldShowNameplate(living)) {
             return;
         }
         plugin.getServer().getScheduler().runTask(plugin, () -> engine.nameplateService().refresh(living, true, true));
     }
 }
-
@@ -96,7 +96,7 @@ public final class MobLifecycleService {
         if (entity == null) {
             return;
         }
-        statService.removeContainer(EntityKey.fromUuid(entity.getUniqueId()));
+        statService.releaseContainer(EntityKey.fromUuid(entity.getUniqueId()));
     }
 
     void ensureIdentity(LivingEntity entity, String mobId, MobTier tier) {
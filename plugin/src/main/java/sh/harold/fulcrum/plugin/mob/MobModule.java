@@ -24,6 +24,7 @@ public final class MobModule implements FulcrumModule, ConfigurableModule {
     private MobEngine mobEngine;
     private Listener lifecycleListener;
     private Listener nameplateCleanupListener;
+    private Listener nameplateViewerListener;
     private Listener nameTagListener;
     private Listener provocationListener;
     private Listener healthListener;
@@ -48,6 +49,7 @@ public final class MobModule implements FulcrumModule, ConfigurableModule {
         );
         mobEngine.nameplateService().cleanupLoadedLabels();
         registerListeners();
+        mobEngine.nameplateService().start();
         mobEngine.provocationService().start();
         mobEngine.controllerService().start();
         bootstrapExistingEntities();
@@ -59,7 +61,7 @@ public final class MobModule implements FulcrumModule, ConfigurableModule {
         if (mobEngine != null) {
             mobEngine.provocationService().stop();
             mobEngine.controllerService().stop();
-            mobEngine.nameplateService().cleanupLoadedLabels();
+            mobEngine.nameplateService().stop();
         }
         unregisterListeners();
         mobEngine = null;
@@ -80,12 +82,14 @@ public final class MobModule implements FulcrumModule, ConfigurableModule {
         PluginManager pluginManager = plugin.getServer().getPluginManager();
         lifecycleListener = new MobLifecycleListener(mobEngine);
         nameplateCleanupListener = new MobNameplateCleanupListener(mobEngine);
+        nameplateViewerListener = new MobNameplateViewerListener(mobEngine);
         provocationListener = new MobProvocationListener(plugin, mobEngine);
         nameTagListener = new MobNameTagListener(plugin, mobEngine);
         healthListener = new MobHealthListener(plugin, mobEngine);
         controllerListener = new MobControllerListener(mobEngine);
         pluginManager.registerEvents(lifecycleListener, plugin);
         pluginManager.registerEvents(nameplateCleanupListener, plugin);
+        pluginManager.registerEvents(nameplateViewerListener, plugin);
         pluginManager.registerEvents(provocationListener, plugin);
         pluginManager.registerEvents(nameTagListener, plugin);
         pluginManager.registerEvents(healthListener, plugin);
@@ -101,6 +105,10 @@ public final class MobModule implements FulcrumModule, ConfigurableModule {
             HandlerList.unregisterAll(nameplateCleanupListener);
             nameplateCleanupListener = null;
         }
+        if (nameplateViewerListener != null) {
+            HandlerList.unregisterAll(nameplateViewerListener);
+            nameplateViewerListener = null;
+        }
         if (nameTagListener != null) {
             HandlerList.unregisterAll(nameTagListener);
             nameTagListener = null;
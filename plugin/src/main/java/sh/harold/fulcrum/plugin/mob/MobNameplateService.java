@@ -1,30 +1,50 @@
 package sh.harold.fulcrum.plugin.mob;
 
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.PacketListenerAbstract;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSetPassengers;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
-import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
 import sh.harold.fulcrum.plugin.mob.pdc.MobPdc;
+import sh.harold.fulcrum.plugin.packet.PacketEntityIds;
+import sh.harold.fulcrum.plugin.packet.PacketTextDisplay;
 import sh.harold.fulcrum.stats.core.StatId;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Mob nameplates rendered as per-viewer packet text displays riding the mob. Identity (id, tier, name base, level) is
+ * decoded once per plate; health changes only resend the label text that actually changed.
+ */
 public final class MobNameplateService {
 
     private static final long UPDATE_COOLDOWN_MILLIS = 150L;
@@ -33,26 +53,25 @@ public final class MobNameplateService {
     private static final float HEALTH_LABEL_OFFSET_Y = -0.08f;
     private static final float LABEL_VIEW_RANGE = 48.0f;
 
-    private static final LabelSlot NAME_LABEL = new LabelSlot("name", NAME_LABEL_OFFSET_Y);
-    private static final LabelSlot HEALTH_LABEL = new LabelSlot("health", HEALTH_LABEL_OFFSET_Y);
-
-    private record LabelSlot(String type, float offsetY) {}
+    private static final PacketTextDisplay.Style NAME_STYLE = PacketTextDisplay.Style.of(LABEL_VIEW_RANGE, true, false)
+        .withTranslation(new Vector3f(0.0f, NAME_LABEL_OFFSET_Y, 0.0f))
+        .withScale(LABEL_SCALE);
+    private static final PacketTextDisplay.Style HEALTH_STYLE = PacketTextDisplay.Style.of(LABEL_VIEW_RANGE, true, false)
+        .withTranslation(new Vector3f(0.0f, HEALTH_LABEL_OFFSET_Y, 0.0f))
+        .withScale(LABEL_SCALE);
 
     private final Plugin plugin;
     private final MobPdc mobPdc;
     private final MobRegistry registry;
     private final MobDifficultyRater difficultyRater;
     private final NamespacedKey labelOwnerKey;
-    private final NamespacedKey labelTypeKey;
     private final Map<UUID, Long> recentUpdates = new ConcurrentHashMap<>();
-    private final Map<UUID, UUID> nameLabelsByOwner = new ConcurrentHashMap<>();
-    private final Map<UUID, UUID> healthLabelsByOwner = new ConcurrentHashMap<>();
-    private final Map<UUID, Component> pendingNameText = new ConcurrentHashMap<>();
-    private final Map<UUID, Component> pendingHealthText = new ConcurrentHashMap<>();
-    private final Set<UUID> pendingNameSpawn = ConcurrentHashMap.newKeySet();
-    private final Set<UUID> pendingHealthSpawn = ConcurrentHashMap.newKeySet();
-    private final Set<UUID> pendingRemovalIds = ConcurrentHashMap.newKeySet();
-    private final AtomicBoolean removalTaskScheduled = new AtomicBoolean(false);
+    private final Map<UUID, Plate> plates = new ConcurrentHashMap<>();
+    private final Map<Integer, Plate> platesByVehicleId = new ConcurrentHashMap<>();
+    private final Set<Plate> dirtyPlates = new LinkedHashSet<>();
+    private final Map<UUID, List<PacketWrapper<?>>> pendingPackets = new HashMap<>();
+    private final PassengerPacketListener passengerListener = new PassengerPacketListener();
+    private BukkitTask flushTask;
 
     public MobNameplateService(Plugin plugin, MobPdc mobPdc, MobRegistry registry, MobDifficultyRater difficultyRater) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
@@ -60,7 +79,26 @@ public final class MobNameplateService {
         this.registry = Objects.requireNonNull(registry, "registry");
         this.difficultyRater = Objects.requireNonNull(difficultyRater, "difficultyRater");
         this.labelOwnerKey = new NamespacedKey(plugin, "mob-engine-label-owner");
-        this.labelTypeKey = new NamespacedKey(plugin, "mob-engine-label-type");
+    }
+
+    void start() {
+        stop();
+        PacketEvents.getAPI().getEventManager().registerListener(passengerListener);
+        flushTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+    }
+
+    void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+            PacketEvents.getAPI().getEventManager().unregisterListener(passengerListener);
+        }
+        for (Plate plate : List.copyOf(plates.values())) {
+            dropPlate(plate);
+        }
+        dirtyPlates.clear();
+        recentUpdates.clear();
+        sendPending();
     }
 
     public void refresh(LivingEntity entity, boolean forceVisible) {
@@ -79,62 +117,56 @@ public final class MobNameplateService {
         }
         recentUpdates.put(id, now);
 
-        String mobId = mobPdc.readId(entity).orElseGet(() -> entity.getType().getKey().toString());
-        MobDefinition definition = registry.get(mobId).orElse(null);
-
-        MobTier tier = mobPdc.readTier(entity)
-            .or(() -> definition == null ? Optional.empty() : Optional.of(definition.tier()))
-            .orElse(MobTier.VANILLA);
-
-        String baseName = mobPdc.readNameBase(entity).orElse(null);
-        boolean renamed = baseName != null && !baseName.isBlank();
-
         if (!forceVisible) {
             restoreBaseName(entity);
             return;
         }
 
-        Component healthLine = buildHealthLine(entity);
-        if (renamed) {
-            Component nameLine = buildNameLine(entity, definition, tier, baseName);
-            entity.customName(nameLine);
+        Plate plate = plates.get(id);
+        if (plate != null && !forceUpdate) {
+            markDirty(plate);
+            return;
+        }
+        MobIdentity identity = decodeIdentity(entity);
+        if (plate == null) {
+            plate = new Plate(entity, PacketEntityIds.next(), PacketEntityIds.next());
+            plates.put(id, plate);
+            platesByVehicleId.put(entity.getEntityId(), plate);
+            for (Player viewer : entity.getTrackedBy()) {
+                plate.pendingViewers.add(viewer.getUniqueId());
+            }
+        }
+        plate.identity = identity;
+        if (identity.renamed()) {
+            entity.customName(identity.nameLine());
             entity.setCustomNameVisible(true);
-            updateLabel(entity, NAME_LABEL, nameLabelsByOwner, pendingNameText, pendingNameSpawn, null);
         } else {
             suppressVanillaName(entity);
-            updateLabel(
-                entity,
-                NAME_LABEL,
-                nameLabelsByOwner,
-                pendingNameText,
-                pendingNameSpawn,
-                buildNameLine(entity, definition, tier, null)
-                    .append(Component.space())
-                    .append(healthLine)
-            );
-        }
-
-        updateLabel(
-            entity,
-            HEALTH_LABEL,
-            healthLabelsByOwner,
-            pendingHealthText,
-            pendingHealthSpawn,
-            renamed ? healthLine : null
-        );
+        }
         mobPdc.writeNameMode(entity, MobNameMode.ENGINE);
+        markDirty(plate);
+    }
+
+    public boolean refreshHealth(LivingEntity entity) {
+        if (entity == null) {
+            return false;
+        }
+        Plate plate = plates.get(entity.getUniqueId());
+        if (plate == null) {
+            return false;
+        }
+        markDirty(plate);
+        return true;
     }
 
     public void restoreBaseName(LivingEntity entity) {
         if (entity == null || entity.isDead() || !entity.isValid()) {
             return;
         }
-        removeLabel(entity, nameLabelsByOwner, NAME_LABEL);
-        removeLabel(entity, healthLabelsByOwner, HEALTH_LABEL);
-        pendingNameText.remove(entity.getUniqueId());
-        pendingHealthText.remove(entity.getUniqueId());
-        pendingNameSpawn.remove(entity.getUniqueId());
-        pendingHealthSpawn.remove(entity.getUniqueId());
+        Plate plate = plates.get(entity.getUniqueId());
+        if (plate != null) {
+            dropPlate(plate);
+        }
         String stored = mobPdc.readNameBase(entity).orElse(null);
         if (stored == null || stored.isBlank()) {
             suppressVanillaName(entity);
@@ -149,12 +181,40 @@ public final class MobNameplateService {
     public void forget(LivingEntity entity) {
         if (entity != null) {
             recentUpdates.remove(entity.getUniqueId());
-            removeLabel(entity, nameLabelsByOwner, NAME_LABEL);
-            removeLabel(entity, healthLabelsByOwner, HEALTH_LABEL);
-            pendingNameText.remove(entity.getUniqueId());
-            pendingHealthText.remove(entity.getUniqueId());
-            pendingNameSpawn.remove(entity.getUniqueId());
-            pendingHealthSpawn.remove(entity.getUniqueId());
+            Plate plate = plates.get(entity.getUniqueId());
+            if (plate != null) {
+                dropPlate(plate);
+            }
+        }
+    }
+
+    void handleTrack(Player viewer, Entity entity) {
+        Plate plate = plates.get(entity.getUniqueId());
+        if (plate != null) {
+            // Tracking fires before the mob's spawn packet, so mounting waits for the next flush.
+            plate.pendingViewers.add(viewer.getUniqueId());
+            markDirty(plate);
+        }
+    }
+
+    void handleUntrack(Player viewer, Entity entity) {
+        Plate plate = plates.get(entity.getUniqueId());
+        if (plate == null) {
+            return;
+        }
+        UUID viewerId = viewer.getUniqueId();
+        plate.pendingViewers.remove(viewerId);
+        if (plate.viewers.remove(viewerId)) {
+            queue(viewerId, new WrapperPlayServerDestroyEntities(plate.nameLabelId, plate.healthLabelId));
+        }
+    }
+
+    void handleQuit(Player viewer) {
+        UUID viewerId = viewer.getUniqueId();
+        pendingPackets.remove(viewerId);
+        for (Plate plate : plates.values()) {
+            plate.viewers.remove(viewerId);
+            plate.pendingViewers.remove(viewerId);
         }
     }
 
@@ -166,6 +226,9 @@ public final class MobNameplateService {
         }
     }
 
+    /**
+     * Removes label entities spawned by builds that still used real passenger displays.
+     */
     public boolean cleanupLabelEntity(Entity entity) {
         if (!(entity instanceof TextDisplay display)) {
             return false;
@@ -175,23 +238,157 @@ public final class MobNameplateService {
         if (ownerRaw == null || ownerRaw.isBlank()) {
             return false;
         }
-        String labelType = container.get(labelTypeKey, PersistentDataType.STRING);
-        try {
-            UUID ownerId = UUID.fromString(ownerRaw);
-            if (NAME_LABEL.type().equals(labelType)) {
-                nameLabelsByOwner.remove(ownerId, display.getUniqueId());
-            } else if (HEALTH_LABEL.type().equals(labelType)) {
-                healthLabelsByOwner.remove(ownerId, display.getUniqueId());
-            } else {
-                nameLabelsByOwner.remove(ownerId, display.getUniqueId());
-                healthLabelsByOwner.remove(ownerId, display.getUniqueId());
-            }
-        } catch (IllegalArgumentException ignored) {
-        }
         display.remove();
         return true;
     }
 
+    private void markDirty(Plate plate) {
+        plate.dirty = true;
+        dirtyPlates.add(plate);
+    }
+
+    private void dropPlate(Plate plate) {
+        UUID ownerId = plate.owner.getUniqueId();
+        plates.remove(ownerId, plate);
+        platesByVehicleId.remove(plate.vehicleId, plate);
+        dirtyPlates.remove(plate);
+        for (UUID viewerId : plate.viewers) {
+            queue(viewerId, new WrapperPlayServerDestroyEntities(plate.nameLabelId, plate.healthLabelId));
+            queue(viewerId, new WrapperPlayServerSetPassengers(plate.vehicleId, vanillaPassengers(plate.owner)));
+        }
+        plate.viewers.clear();
+        plate.pendingViewers.clear();
+    }
+
+    private void flush() {
+        if (!dirtyPlates.isEmpty()) {
+            List<Plate> snapshot = new ArrayList<>(dirtyPlates);
+            dirtyPlates.clear();
+            for (Plate plate : snapshot) {
+                if (plate.dirty) {
+                    flushPlate(plate);
+                }
+            }
+        }
+        sendPending();
+    }
+
+    private void flushPlate(Plate plate) {
+        plate.dirty = false;
+        LivingEntity owner = plate.owner;
+        if (owner.isDead() || !owner.isValid() || plate.identity == null) {
+            return;
+        }
+        MobIdentity identity = plate.identity;
+        Component healthLine = healthComponent(owner);
+        Component nameText = identity.renamed()
+            ? null
+            : identity.nameLine().append(Component.space()).append(healthLine);
+        Component healthText = identity.renamed() ? healthLine : null;
+
+        boolean nameChanged = !Objects.equals(nameText, plate.sentNameText);
+        boolean healthChanged = !Objects.equals(healthText, plate.sentHealthText);
+        boolean layoutChanged = (nameText == null) != (plate.sentNameText == null)
+            || (healthText == null) != (plate.sentHealthText == null);
+        plate.sentNameText = nameText;
+        plate.sentHealthText = healthText;
+
+        if (layoutChanged) {
+            // Switching between the combined and split layout respawns the labels for everyone already watching.
+            plate.pendingViewers.addAll(plate.viewers);
+            for (UUID viewerId : plate.viewers) {
+                queue(viewerId, new WrapperPlayServerDestroyEntities(plate.nameLabelId, plate.healthLabelId));
+            }
+            plate.viewers.clear();
+        } else if (nameChanged || healthChanged) {
+            for (UUID viewerId : plate.viewers) {
+                if (nameChanged) {
+                    queue(viewerId, PacketTextDisplay.text(plate.nameLabelId, nameText));
+                }
+                if (healthChanged) {
+                    queue(viewerId, PacketTextDisplay.text(plate.healthLabelId, healthText));
+                }
+            }
+        }
+
+        if (plate.pendingViewers.isEmpty()) {
+            return;
+        }
+        Location location = owner.getLocation();
+        Vector3d position = new Vector3d(location.getX(), location.getY() + owner.getHeight(), location.getZ());
+        int[] passengers = labelPassengers(plate);
+        for (UUID viewerId : plate.pendingViewers) {
+            if (nameText != null) {
+                queue(viewerId, PacketTextDisplay.spawn(plate.nameLabelId, position));
+                queue(viewerId, PacketTextDisplay.metadata(plate.nameLabelId, NAME_STYLE, nameText));
+            }
+            if (healthText != null) {
+                queue(viewerId, PacketTextDisplay.spawn(plate.healthLabelId, position));
+                queue(viewerId, PacketTextDisplay.metadata(plate.healthLabelId, HEALTH_STYLE, healthText));
+            }
+            queue(viewerId, new WrapperPlayServerSetPassengers(plate.vehicleId, passengers));
+            plate.viewers.add(viewerId);
+        }
+        plate.pendingViewers.clear();
+    }
+
+    private int[] labelPassengers(Plate plate) {
+        int[] base = vanillaPassengers(plate.owner);
+        int extra = (plate.sentNameText == null ? 0 : 1) + (plate.sentHealthText == null ? 0 : 1);
+        int[] merged = Arrays.copyOf(base, base.length + extra);
+        int index = base.length;
+        if (plate.sentNameText != null) {
+            merged[index++] = plate.nameLabelId;
+        }
+        if (plate.sentHealthText != null) {
+            merged[index] = plate.healthLabelId;
+        }
+        return merged;
+    }
+
+    private int[] vanillaPassengers(LivingEntity owner) {
+        return owner.getPassengers().stream()
+            .mapToInt(Entity::getEntityId)
+            .toArray();
+    }
+
+    private void queue(UUID viewerId, PacketWrapper<?> packet) {
+        pendingPackets.computeIfAbsent(viewerId, ignored -> new ArrayList<>()).add(packet);
+    }
+
+    private void sendPending() {
+        if (pendingPackets.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<UUID, List<PacketWrapper<?>>> entry : pendingPackets.entrySet()) {
+            Player viewer = plugin.getServer().getPlayer(entry.getKey());
+            if (viewer == null || !viewer.isOnline()) {
+                continue;
+            }
+            User user = PacketEvents.getAPI().getPlayerManager().getUser(viewer);
+            if (user == null) {
+                continue;
+            }
+            entry.getValue().forEach(user::writePacket);
+            user.flushPackets();
+        }
+        pendingPackets.clear();
+    }
+
+    private MobIdentity decodeIdentity(LivingEntity entity) {
+        String mobId = mobPdc.readId(entity).orElseGet(() -> entity.getType().getKey().toString());
+        MobDefinition definition = registry.get(mobId).orElse(null);
+
+        MobTier tier = mobPdc.readTier(entity)
+            .or(() -> definition == null ? Optional.empty() : Optional.of(definition.tier()))
+            .orElse(MobTier.VANILLA);
+
+        String baseName = mobPdc.readNameBase(entity).orElse(null);
+        boolean renamed = baseName != null && !baseName.isBlank();
+        Component nameLine = buildNameLine(entity, definition, tier, renamed ? baseName : null);
+        return new MobIdentity(renamed, nameLine);
+    }
+
     private Component buildNameLine(LivingEntity entity, MobDefinition definition, MobTier tier, String customName) {
         Map<StatId, Double> bases = mobPdc.readStatBases(entity).orElse(Map.of());
         int level = difficultyRater.level(bases);
@@ -212,10 +409,6 @@ public final class MobNameplateService {
             .decoration(TextDecoration.ITALIC, false);
     }
 
-    private Component buildHealthLine(LivingEntity entity) {
-        return healthComponent(entity);
-    }
-
     private Component resolveName(LivingEntity entity, MobDefinition definition, String customName) {
         Component baseName = resolveBaseName(entity, definition);
         if (customName == null || customName.isBlank()) {
@@ -264,178 +457,6 @@ public final class MobNameplateService {
         entity.setCustomNameVisible(false);
     }
 
-    private void updateLabel(
-        LivingEntity owner,
-        LabelSlot slot,
-        Map<UUID, UUID> labelMap,
-        Map<UUID, Component> pendingText,
-        Set<UUID> pendingSpawn,
-        Component text
-    ) {
-        UUID ownerId = owner.getUniqueId();
-        if (text == null) {
-            pendingText.remove(ownerId);
-            pendingSpawn.remove(ownerId);
-            removeLabel(owner, labelMap, slot);
-            return;
-        }
-        TextDisplay display = findLabel(owner, slot, labelMap);
-        if (display != null) {
-            display.text(text);
-            pendingText.put(ownerId, text);
-            return;
-        }
-        pendingText.put(ownerId, text);
-        scheduleLabelSpawn(owner, slot, labelMap, pendingText, pendingSpawn);
-    }
-
-    private void scheduleLabelSpawn(
-        LivingEntity owner,
-        LabelSlot slot,
-        Map<UUID, UUID> labelMap,
-        Map<UUID, Component> pendingText,
-        Set<UUID> pendingSpawn
-    ) {
-        UUID ownerId = owner.getUniqueId();
-        if (!pendingSpawn.add(ownerId)) {
-            return;
-        }
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
-            pendingSpawn.remove(ownerId);
-            if (owner.isDead() || !owner.isValid()) {
-                return;
-            }
-            Component text = pendingText.get(ownerId);
-            if (text == null) {
-                return;
-            }
-            TextDisplay display = findLabel(owner, slot, labelMap);
-            if (display == null) {
-                display = spawnLabel(owner, slot, labelMap);
-            }
-            if (display != null) {
-                display.text(text);
-            }
-        }, 1L);
-    }
-
-    private TextDisplay findLabel(LivingEntity owner, LabelSlot slot, Map<UUID, UUID> labelMap) {
-        UUID ownerId = owner.getUniqueId();
-        UUID existingId = labelMap.get(ownerId);
-        if (existingId != null) {
-            Entity resolved = Bukkit.getEntity(existingId);
-            if (resolved instanceof TextDisplay display && display.isValid()) {
-                applyLabelDefaults(display, slot);
-                return display;
-            }
-            labelMap.remove(ownerId);
-        }
-
-        for (Entity passenger : owner.getPassengers()) {
-            if (passenger instanceof TextDisplay display && isOwnedLabel(display, ownerId, slot)) {
-                applyLabelDefaults(display, slot);
-                labelMap.put(ownerId, display.getUniqueId());
-                return display;
-            }
-        }
-
-        return null;
-    }
-
-    private TextDisplay spawnLabel(LivingEntity owner, LabelSlot slot, Map<UUID, UUID> labelMap) {
-        UUID ownerId = owner.getUniqueId();
-        TextDisplay created = owner.getWorld().spawn(owner.getLocation(), TextDisplay.class, display -> {
-            applyLabelDefaults(display, slot);
-            PersistentDataContainer container = display.getPersistentDataContainer();
-            container.set(labelOwnerKey, PersistentDataType.STRING, ownerId.toString());
-            container.set(labelTypeKey, PersistentDataType.STRING, slot.type());
-        });
-
-        owner.addPassenger(created);
-        labelMap.put(ownerId, created.getUniqueId());
-        return created;
-    }
-
-    private void removeLabel(LivingEntity owner, Map<UUID, UUID> labelMap, LabelSlot slot) {
-        if (owner == null) {
-            return;
-        }
-        UUID ownerId = owner.getUniqueId();
-        UUID labelId = labelMap.remove(ownerId);
-        if (labelId != null) {
-            Entity resolved = Bukkit.getEntity(labelId);
-            if (resolved != null) {
-                scheduleRemoval(resolved);
-            }
-        }
-        for (Entity passenger : owner.getPassengers()) {
-            if (passenger instanceof TextDisplay display && isOwnedLabel(display, ownerId, slot)) {
-                scheduleRemoval(display);
-            }
-        }
-    }
-
-    private void scheduleRemoval(Entity entity) {
-        if (entity == null) {
-            return;
-        }
-        UUID id = entity.getUniqueId();
-        pendingRemovalIds.add(id);
-        scheduleRemovalFlush();
-    }
-
-    private void scheduleRemovalFlush() {
-        if (!removalTaskScheduled.compareAndSet(false, true)) {
-            return;
-        }
-        plugin.getServer().getScheduler().runTaskLater(plugin, this::flushPendingRemovals, 1L);
-    }
-
-    private void flushPendingRemovals() {
-        Set<UUID> snapshot = new HashSet<>(pendingRemovalIds);
-        pendingRemovalIds.removeAll(snapshot);
-        for (UUID entityId : snapshot) {
-            Entity resolved = Bukkit.getEntity(entityId);
-            if (resolved != null && resolved.isValid()) {
-                resolved.remove();
-            }
-        }
-        removalTaskScheduled.set(false);
-        if (!pendingRemovalIds.isEmpty()) {
-            scheduleRemovalFlush();
-        }
-    }
-
-    private boolean isOwnedLabel(TextDisplay display, UUID ownerId, LabelSlot slot) {
-        PersistentDataContainer container = display.getPersistentDataContainer();
-        String storedOwner = container.get(labelOwnerKey, PersistentDataType.STRING);
-        String storedType = container.get(labelTypeKey, PersistentDataType.STRING);
-        return ownerId.toString().equals(storedOwner) && slot.type().equals(storedType);
-    }
-
-    private void applyLabelDefaults(TextDisplay display, LabelSlot slot) {
-        display.setBillboard(Display.Billboard.CENTER);
-        display.setDefaultBackground(false);
-        display.setShadowed(true);
-        display.setSeeThrough(false);
-        display.setGravity(false);
-        display.setPersistent(false);
-        display.setTextOpacity((byte) 0xFF);
-        display.setAlignment(TextDisplay.TextAlignment.CENTER);
-        display.setViewRange(LABEL_VIEW_RANGE);
-        applyDefaultTransform(display, slot.offsetY());
-    }
-
-    private void applyDefaultTransform(TextDisplay display, float offsetY) {
-        org.bukkit.util.Transformation current = display.getTransformation();
-        if (current == null) {
-            return;
-        }
-        org.joml.Vector3f translation = new org.joml.Vector3f(0.0f, offsetY, 0.0f);
-        org.joml.Vector3f scale = new org.joml.Vector3f(LABEL_SCALE, LABEL_SCALE, LABEL_SCALE);
-        display.setTransformation(new org.bukkit.util.Transformation(translation, current.getLeftRotation(), scale, current.getRightRotation()));
-    }
-
     private String formatNumber(double value) {
         double safe = Double.isFinite(value) ? value : 0.0;
         if (safe >= 1_000_000.0) {
@@ -467,4 +488,64 @@ public final class MobNameplateService {
         }
         return builder.isEmpty() ? type.name() : builder.toString();
     }
+
+    private record MobIdentity(boolean renamed, Component nameLine) {
+    }
+
+    private static final class Plate {
+        private final LivingEntity owner;
+        private final int vehicleId;
+        private final int nameLabelId;
+        private final int healthLabelId;
+        private final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+        private final Set<UUID> pendingViewers = new LinkedHashSet<>();
+        private MobIdentity identity;
+        private volatile Component sentNameText;
+        private volatile Component sentHealthText;
+        private boolean dirty;
+
+        private Plate(LivingEntity owner, int nameLabelId, int healthLabelId) {
+            this.owner = owner;
+            this.vehicleId = owner.getEntityId();
+            this.nameLabelId = nameLabelId;
+            this.healthLabelId = healthLabelId;
+        }
+    }
+
+    private final class PassengerPacketListener extends PacketListenerAbstract {
+        @Override
+        public void onPacketSend(PacketSendEvent event) {
+            if (event.getPacketType() != PacketType.Play.Server.SET_PASSENGERS) {
+                return;
+            }
+            WrapperPlayServerSetPassengers packet = new WrapperPlayServerSetPassengers(event);
+            Plate plate = platesByVehicleId.get(packet.getEntityId());
+            if (plate == null) {
+                return;
+            }
+            Object handle = event.getPlayer();
+            if (!(handle instanceof Player viewer)) {
+                return;
+            }
+            // Only viewers that already received the labels need them merged back into vanilla passenger updates.
+            if (!plate.viewers.contains(viewer.getUniqueId())) {
+                return;
+            }
+            int[] passengers = packet.getPassengers() == null ? new int[0] : packet.getPassengers();
+            boolean hasName = plate.sentNameText == null || Arrays.stream(passengers).anyMatch(id -> id == plate.nameLabelId);
+            boolean hasHealth = plate.sentHealthText == null || Arrays.stream(passengers).anyMatch(id -> id == plate.healthLabelId);
+            if (hasName && hasHealth) {
+                return;
+            }
+            int[] merged = Arrays.copyOf(passengers, passengers.length + (hasName ? 0 : 1) + (hasHealth ? 0 : 1));
+            int index = passengers.length;
+            if (!hasName) {
+                merged[index++] = plate.nameLabelId;
+            }
+            if (!hasHealth) {
+                merged[index] = plate.healthLabelId;
+            }
+            packet.setPassengers(merged);
+        }
+    }
 }
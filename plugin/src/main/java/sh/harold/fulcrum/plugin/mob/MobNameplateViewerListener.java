@@ -0,0 +1,34 @@
+package sh.harold.fulcrum.plugin.mob;
+
+import io.papermc.paper.event.player.PlayerTrackEntityEvent;
+import io.papermc.paper.event.player.PlayerUntrackEntityEvent;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+import java.util.Objects;
+
+final class MobNameplateViewerListener implements Listener {
+
+    private final MobEngine engine;
+
+    MobNameplateViewerListener(MobEngine engine) {
+        this.engine = Objects.requireNonNull(engine, "engine");
+    }
+
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onTrack(PlayerTrackEntityEvent event) {
+        engine.nameplateService().handleTrack(event.getPlayer(), event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUntrack(PlayerUntrackEntityEvent event) {
+        engine.nameplateService().handleUntrack(event.getPlayer(), event.getEntity());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        engine.nameplateService().handleQuit(event.getPlayer());
+    }
+}
@@ -1,7 +1,5 @@
 package sh.harold.fulcrum.plugin.mob;
 
-import org.bukkit.Bukkit;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Mob;
 import org.bukkit.entity.Player;
@@ -21,7 +19,7 @@ final class MobProvocationService {
     private final Plugin plugin;
     private final MobLifecycleService lifecycleService;
     private final MobNameplateService nameplateService;
-    private final Map<UUID, Long> provokedUntilMillis = new ConcurrentHashMap<>();
+    private final Map<UUID, Provocation> provocations = new ConcurrentHashMap<>();
     private BukkitTask task;
 
     MobProvocationService(Plugin plugin, MobLifecycleService lifecycleService, MobNameplateService nameplateService) {
@@ -40,13 +38,13 @@ final class MobProvocationService {
             task.cancel();
             task = null;
         }
-        for (UUID entityId : provokedUntilMillis.keySet()) {
-            Entity resolved = Bukkit.getEntity(entityId);
-            if (resolved instanceof LivingEntity living && !living.isDead() && living.isValid()) {
+        for (Provocation provocation : provocations.values()) {
+            LivingEntity living = provocation.entity();
+            if (!living.isDead() && living.isValid()) {
                 nameplateService.restoreBaseName(living);
             }
         }
-        provokedUntilMillis.clear();
+        provocations.clear();
     }
 
     void markProvoked(LivingEntity entity) {
@@ -58,7 +56,7 @@ final class MobProvocationService {
         }
         lifecycleService.ensureParticipatingNeutral(entity);
         long now = System.currentTimeMillis();
-        provokedUntilMillis.put(entity.getUniqueId(), now + GRACE_WINDOW_MILLIS);
+        provocations.put(entity.getUniqueId(), new Provocation(entity, now + GRACE_WINDOW_MILLIS));
         nameplateService.refresh(entity, true, true);
     }
 
@@ -69,41 +67,44 @@ final class MobProvocationService {
         if (entity instanceof Player || lifecycleService.isHostile(entity)) {
             return false;
         }
-        Long until = provokedUntilMillis.get(entity.getUniqueId());
-        if (until == null) {
+        Provocation provocation = provocations.get(entity.getUniqueId());
+        if (provocation == null) {
             return isAggroOnPlayer(entity);
         }
-        return System.currentTimeMillis() < until || isAggroOnPlayer(entity);
+        return System.currentTimeMillis() < provocation.untilMillis() || isAggroOnPlayer(entity);
     }
 
     void forget(LivingEntity entity) {
         if (entity != null) {
-            provokedUntilMillis.remove(entity.getUniqueId());
+            provocations.remove(entity.getUniqueId());
         }
     }
 
     private void tick() {
         long now = System.currentTimeMillis();
-        for (Map.Entry<UUID, Long> entry : provokedUntilMillis.entrySet()) {
+        for (Map.Entry<UUID, Provocation> entry : provocations.entrySet()) {
             UUID entityId = entry.getKey();
-            long until = entry.getValue();
-            Entity resolved = Bukkit.getEntity(entityId);
-            if (!(resolved instanceof LivingEntity living) || living.isDead() || !living.isValid()) {
-                provokedUntilMillis.remove(entityId);
+            Provocation provocation = entry.getValue();
+            LivingEntity living = provocation.entity();
+            if (living.isDead() || !living.isValid()) {
+                provocations.remove(entityId, provocation);
                 continue;
             }
             if (living instanceof Player || lifecycleService.isHostile(living)) {
-                provokedUntilMillis.remove(entityId);
+                provocations.remove(entityId, provocation);
+                continue;
+            }
+            if (!living.isTicking()) {
                 continue;
             }
             if (isAggroOnPlayer(living)) {
-                provokedUntilMillis.put(entityId, now + GRACE_WINDOW_MILLIS);
+                provocations.put(entityId, new Provocation(living, now + GRACE_WINDOW_MILLIS));
                 continue;
             }
-            if (now < until) {
+            if (now < provocation.untilMillis()) {
                 continue;
             }
-            provokedUntilMillis.remove(entityId);
+            provocations.remove(entityId, provocation);
             nameplateService.restoreBaseName(living);
         }
     }
@@ -117,4 +118,7 @@ final class MobProvocationService {
         }
         return false;
     }
+
+    private record Provocation(LivingEntity entity, long untilMillis) {
+    }
 }
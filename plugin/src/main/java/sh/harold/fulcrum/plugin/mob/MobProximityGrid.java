@@ -0,0 +1,72 @@
+package sh.harold.fulcrum.plugin.mob;
+
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Coarse per-world bucket grid of player positions, rebuilt once per tick and queried for the nearest player distance.
+ */
+final class MobProximityGrid {
+
+    private static final int CELL_SHIFT = 5;
+    private static final double CELL_SIZE = 1 << CELL_SHIFT;
+
+    private final Map<UUID, Map<Long, List<double[]>>> cellsByWorld = new HashMap<>();
+
+    void rebuild(Iterable<? extends Player> players) {
+        cellsByWorld.clear();
+        for (Player player : players) {
+            if (player.isDead()) {
+                continue;
+            }
+            Location location = player.getLocation();
+            Map<Long, List<double[]>> cells = cellsByWorld.computeIfAbsent(location.getWorld().getUID(), ignored -> new HashMap<>());
+            long key = cellKey(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+            cells.computeIfAbsent(key, ignored -> new ArrayList<>(2))
+                .add(new double[] { location.getX(), location.getY(), location.getZ() });
+        }
+    }
+
+    boolean isEmpty() {
+        return cellsByWorld.isEmpty();
+    }
+
+    double nearestDistanceSquared(Location location, double maxRange) {
+        Map<Long, List<double[]>> cells = cellsByWorld.get(location.getWorld().getUID());
+        if (cells == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double x = location.getX();
+        double y = location.getY();
+        double z = location.getZ();
+        int radius = (int) Math.ceil(maxRange / CELL_SIZE);
+        int cellX = location.getBlockX() >> CELL_SHIFT;
+        int cellZ = location.getBlockZ() >> CELL_SHIFT;
+        double nearest = Double.POSITIVE_INFINITY;
+        for (int dx = -radius; dx <= radius; dx++) {
+            for (int dz = -radius; dz <= radius; dz++) {
+                List<double[]> bucket = cells.get(cellKey(cellX + dx, cellZ + dz));
+                if (bucket == null) {
+                    continue;
+                }
+                for (double[] position : bucket) {
+                    double ox = position[0] - x;
+                    double oy = position[1] - y;
+                    double oz = position[2] - z;
+                    nearest = Math.min(nearest, ox * ox + oy * oy + oz * oz);
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+}
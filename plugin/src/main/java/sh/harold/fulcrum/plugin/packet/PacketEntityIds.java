@@ -0,0 +1,19 @@
+package sh.harold.fulcrum.plugin.packet;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out entity ids for client-side packet entities, counting down from the top of the int range so they never
+ * collide with ids assigned by the server.
+ */
+public final class PacketEntityIds {
+
+    private static final AtomicInteger NEXT = new AtomicInteger(Integer.MAX_VALUE);
+
+    private PacketEntityIds() {
+    }
+
+    public static int next() {
+        return NEXT.getAndDecrement();
+    }
+}
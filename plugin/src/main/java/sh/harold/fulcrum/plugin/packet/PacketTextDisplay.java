@@ -0,0 +1,126 @@
+package sh.harold.fulcrum.plugin.packet;
+
+import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
+import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
+import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSpawnEntity;
+import net.kyori.adventure.text.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Packet builders for client-only text displays.
+ */
+public final class PacketTextDisplay {
+
+    private static final int NO_GRAVITY_INDEX = 5;
+    private static final int INTERPOLATION_DELAY_INDEX = 8;
+    private static final int TRANSFORMATION_DURATION_INDEX = 9;
+    private static final int TRANSLATION_INDEX = 11;
+    private static final int SCALE_INDEX = 12;
+    private static final int BILLBOARD_INDEX = 15;
+    private static final int VIEW_RANGE_INDEX = 17;
+    private static final int TEXT_INDEX = 23;
+    private static final int BACKGROUND_COLOR_INDEX = 25;
+    private static final int STYLE_FLAGS_INDEX = 27;
+
+    private static final byte BILLBOARD_CENTER = 3;
+    private static final byte FLAG_SHADOW = 0x01;
+    private static final byte FLAG_SEE_THROUGH = 0x02;
+
+    private PacketTextDisplay() {
+    }
+
+    public static WrapperPlayServerSpawnEntity spawn(int entityId, Vector3d position) {
+        return new WrapperPlayServerSpawnEntity(
+            entityId,
+            Optional.of(UUID.randomUUID()),
+            EntityTypes.TEXT_DISPLAY,
+            position,
+            0.0F,
+            0.0F,
+            0.0F,
+            0,
+            Optional.empty()
+        );
+    }
+
+    public static WrapperPlayServerEntityMetadata metadata(int entityId, Style style, Component text) {
+        List<EntityData<?>> metadata = new ArrayList<>(8);
+        metadata.add(new EntityData<>(NO_GRAVITY_INDEX, EntityDataTypes.BOOLEAN, true));
+        metadata.add(new EntityData<>(BILLBOARD_INDEX, EntityDataTypes.BYTE, BILLBOARD_CENTER));
+        metadata.add(new EntityData<>(VIEW_RANGE_INDEX, EntityDataTypes.FLOAT, style.viewRange()));
+        metadata.add(new EntityData<>(STYLE_FLAGS_INDEX, EntityDataTypes.BYTE, style.flags()));
+        if (style.backgroundColor() != null) {
+            metadata.add(new EntityData<>(BACKGROUND_COLOR_INDEX, EntityDataTypes.INT, style.backgroundColor()));
+        }
+        if (style.translation() != null) {
+            metadata.add(new EntityData<>(TRANSLATION_INDEX, EntityDataTypes.VECTOR3F, style.translation()));
+        }
+        if (style.scale() != 1.0f) {
+            float scale = style.scale();
+            metadata.add(new EntityData<>(SCALE_INDEX, EntityDataTypes.VECTOR3F, new Vector3f(scale, scale, scale)));
+        }
+        metadata.add(new EntityData<>(TEXT_INDEX, EntityDataTypes.ADV_COMPONENT, text == null ? Component.empty() : text));
+        return new WrapperPlayServerEntityMetadata(entityId, metadata);
+    }
+
+    public static WrapperPlayServerEntityMetadata text(int entityId, Component text) {
+        List<EntityData<?>> metadata = List.of(
+            new EntityData<>(TEXT_INDEX, EntityDataTypes.ADV_COMPONENT, text == null ? Component.empty() : text)
+        );
+        return new WrapperPlayServerEntityMetadata(entityId, metadata);
+    }
+
+    public static WrapperPlayServerEntityMetadata translate(int entityId, Vector3f translation, int durationTicks) {
+        List<EntityData<?>> metadata = List.of(
+            new EntityData<>(INTERPOLATION_DELAY_INDEX, EntityDataTypes.INT, 0),
+            new EntityData<>(TRANSFORMATION_DURATION_INDEX, EntityDataTypes.INT, Math.max(0, durationTicks)),
+            new EntityData<>(TRANSLATION_INDEX, EntityDataTypes.VECTOR3F, translation)
+        );
+        return new WrapperPlayServerEntityMetadata(entityId, metadata);
+    }
+
+    public record Style(
+        float viewRange,
+        boolean shadowed,
+        boolean seeThrough,
+        Integer backgroundColor,
+        Vector3f translation,
+        float scale
+    ) {
+
+        public static Style of(float viewRange, boolean shadowed, boolean seeThrough) {
+            return new Style(viewRange, shadowed, seeThrough, null, null, 1.0f);
+        }
+
+        public Style withBackground(int argb) {
+            return new Style(viewRange, shadowed, seeThrough, argb, translation, scale);
+        }
+
+        public Style withTranslation(Vector3f offset) {
+            return new Style(viewRange, shadowed, seeThrough, backgroundColor, offset, scale);
+        }
+
+        public Style withScale(float uniformScale) {
+            return new Style(viewRange, shadowed, seeThrough, backgroundColor, translation, uniformScale);
+        }
+
+        byte flags() {
+            byte flags = 0;
+            if (shadowed) {
+                flags |= FLAG_SHADOW;
+            }
+            if (seeThrough) {
+                flags |= FLAG_SEE_THROUGH;
+            }
+            return flags;
+        }
+    }
+}
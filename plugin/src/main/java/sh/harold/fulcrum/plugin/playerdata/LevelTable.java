@@ -0,0 +1,55 @@
+package sh.harold.fulcrum.plugin.playerdata;
+
+import java.util.Objects;
+
+/**
+ * Cumulative XP thresholds for a {@link LevelingCurve} up to a level cap, so level lookups are a binary search
+ * instead of a walk over the curve. Thresholds saturate at {@link Long#MAX_VALUE}.
+ */
+final class LevelTable {
+
+    private final LevelingCurve curve;
+    private final int maxLevel;
+    private final long[] thresholds;
+
+    LevelTable(LevelingCurve curve, int maxLevel) {
+        this.curve = Objects.requireNonNull(curve, "curve");
+        this.maxLevel = Math.max(0, maxLevel);
+        this.thresholds = new long[this.maxLevel + 1];
+        for (int level = 1; level <= this.maxLevel; level++) {
+            long previous = thresholds[level - 1];
+            long cost = curve.xpForNextLevel(level - 1);
+            thresholds[level] = previous > Long.MAX_VALUE - cost ? Long.MAX_VALUE : previous + cost;
+        }
+    }
+
+    long totalXpForLevel(int level) {
+        return thresholds[Math.max(0, Math.min(level, maxLevel))];
+    }
+
+    long maxTotalXp() {
+        return thresholds[maxLevel];
+    }
+
+    LevelProgress progressFor(long xp) {
+        long clamped = Math.max(0L, xp);
+        int level = levelFor(clamped);
+        long levelStartXp = thresholds[level];
+        long xpForNext = level >= maxLevel ? 0L : curve.xpForNextLevel(level);
+        return new LevelProgress(level, clamped, levelStartXp, clamped - levelStartXp, xpForNext);
+    }
+
+    private int levelFor(long xp) {
+        int low = 0;
+        int high = maxLevel;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (thresholds[mid] <= xp) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
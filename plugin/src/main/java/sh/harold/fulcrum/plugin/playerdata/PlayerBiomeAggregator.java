@@ -26,19 +26,18 @@ import java.util.logging.Logger;
 
 final class PlayerBiomeAggregator implements Listener {
 
-    private static final String PATH_PREFIX = "travel.biomes.";
+    private static final String PATH_PREFIX = PlayerDocumentSections.BIOMES_PATH + ".";
 
     private final Logger logger;
-    private final DocumentCollection players;
+    private final DocumentCollection travel;
     private final Map<UUID, String> lastKnownBiomes = new ConcurrentHashMap<>();
 
     PlayerBiomeAggregator(Logger logger, DataApi dataApi) {
         this.logger = Objects.requireNonNull(logger, "logger");
-        this.players = Objects.requireNonNull(dataApi, "dataApi").collection("players");
+        this.travel = PlayerDocumentSections.travel(Objects.requireNonNull(dataApi, "dataApi"));
     }
 
-    CompletionStage<Void> recordInitialVisit(Document document, UUID playerId, Location location, Instant timestamp) {
-        Objects.requireNonNull(document, "document");
+    CompletionStage<Void> recordInitialVisit(UUID playerId, Location location, Instant timestamp) {
         Objects.requireNonNull(playerId, "playerId");
         Objects.requireNonNull(location, "location");
         Objects.requireNonNull(timestamp, "timestamp");
@@ -49,7 +48,8 @@ final class PlayerBiomeAggregator implements Listener {
         }
 
         lastKnownBiomes.put(playerId, biomeKey);
-        return recordIfMissing(document, playerId, biomeKey, timestamp);
+        return travel.load(playerId.toString())
+            .thenCompose(document -> recordIfMissing(document, playerId, biomeKey, timestamp));
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -69,7 +69,7 @@ final class PlayerBiomeAggregator implements Listener {
 
         lastKnownBiomes.put(playerId, biomeKey);
         Instant timestamp = Instant.now();
-        players.load(playerId.toString())
+        travel.load(playerId.toString())
             .thenCompose(document -> recordIfMissing(document, playerId, biomeKey, timestamp))
             .exceptionally(throwable -> {
                 logger.log(Level.SEVERE, "Failed to aggregate biome visit for player " + playerId, throwable);
@@ -89,7 +89,7 @@ final class PlayerBiomeAggregator implements Listener {
 
         lastKnownBiomes.put(playerId, biomeKey);
         Instant timestamp = Instant.now();
-        players.load(playerId.toString())
+        travel.load(playerId.toString())
             .thenCompose(document -> recordIfMissing(document, playerId, biomeKey, timestamp))
             .exceptionally(throwable -> {
                 logger.log(Level.SEVERE, "Failed to aggregate biome visit after world change for player " + playerId, throwable);
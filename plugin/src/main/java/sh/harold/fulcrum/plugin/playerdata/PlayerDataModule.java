@@ -8,6 +8,7 @@ import sh.harold.fulcrum.common.loader.ModuleCategory;
 import sh.harold.fulcrum.common.loader.ModuleDescriptor;
 import sh.harold.fulcrum.common.loader.ModuleId;
 import sh.harold.fulcrum.plugin.data.DataModule;
+import sh.harold.fulcrum.plugin.data.DocumentWriteQueue;
 
 import java.time.Instant;
 import java.util.Objects;
@@ -42,7 +43,9 @@ public final class PlayerDataModule implements FulcrumModule {
         directoryService = new PlayerDirectoryService(dataApi, plugin.getLogger());
         PlayerSessionListener listener = new PlayerSessionListener(plugin.getLogger(), dataApi, biomeAggregator, directoryService);
         sessionListener = listener;
-        settingsService = new PlayerSettingsService(dataApi);
+        DocumentWriteQueue playerWrites = dataModule.playerWrites()
+            .orElseThrow(() -> new IllegalStateException("Player write queue not available"));
+        settingsService = new PlayerSettingsService(dataApi, playerWrites);
         levelingService = new PlayerLevelingService(dataApi);
         usernameDisplayService = new UsernameDisplayService(plugin, dataApi, settingsService, levelingService);
         levelingService.addListener(usernameDisplayService::handleLevelUpdate);
@@ -52,6 +55,8 @@ public final class PlayerDataModule implements FulcrumModule {
         pluginManager.registerEvents(listener, plugin);
         pluginManager.registerEvents(pvpSettingsListener, plugin);
         pluginManager.registerEvents(usernameDisplayService, plugin);
+        pluginManager.registerEvents(levelingService, plugin);
+        plugin.getServer().getOnlinePlayers().forEach(player -> levelingService.track(player.getUniqueId()));
         plugin.getServer().getOnlinePlayers()
             .forEach(player -> settingsService.loadSettings(player.getUniqueId())
                 .exceptionally(throwable -> {
@@ -0,0 +1,32 @@
+package sh.harold.fulcrum.plugin.playerdata;
+
+import sh.harold.fulcrum.common.data.DataApi;
+import sh.harold.fulcrum.common.data.DocumentCollection;
+
+/**
+ * Large, rarely read parts of the player document that live in their own collections keyed by player id.
+ * Each section keeps the path it used inside the player document.
+ */
+public final class PlayerDocumentSections {
+
+    public static final String STASH_PATH = "inventory.stash";
+    public static final String INVENTORY_SNAPSHOT_PATH = "inventory.snapshot";
+    public static final String BIOMES_PATH = "travel.biomes";
+
+    private static final String PLAYERS = "players";
+
+    private PlayerDocumentSections() {
+    }
+
+    public static DocumentCollection stash(DataApi dataApi) {
+        return dataApi.collection(PLAYERS).section("stash", STASH_PATH);
+    }
+
+    public static DocumentCollection inventorySnapshots(DataApi dataApi) {
+        return dataApi.collection(PLAYERS).section("inventory_snapshot", INVENTORY_SNAPSHOT_PATH);
+    }
+
+    public static DocumentCollection travel(DataApi dataApi) {
+        return dataApi.collection(PLAYERS).section("travel", BIOMES_PATH);
+    }
+}
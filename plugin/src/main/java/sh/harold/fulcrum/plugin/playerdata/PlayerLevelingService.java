@@ -1,5 +1,10 @@
 package sh.harold.fulcrum.plugin.playerdata;
 
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.common.data.Document;
 import sh.harold.fulcrum.common.data.DocumentCollection;
@@ -7,14 +12,18 @@ import sh.harold.fulcrum.common.data.DocumentCollection;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.List;
 
-public final class PlayerLevelingService {
+public final class PlayerLevelingService implements Listener {
 
     private static final String XP_PATH = "progression.xp";
     private static final String PRESTIGE_PATH = "progression.prestige";
@@ -24,8 +33,11 @@ public final class PlayerLevelingService {
 
     private final DocumentCollection players;
     private final LevelingCurve curve;
+    private final LevelTable table;
     private final long maxTotalXp;
     private final List<LevelUpdateListener> listeners = new CopyOnWriteArrayList<>();
+    private final Map<UUID, LevelProgress> progressCache = new ConcurrentHashMap<>();
+    private final Set<UUID> onlinePlayers = ConcurrentHashMap.newKeySet();
 
     public PlayerLevelingService(DataApi dataApi) {
         this(dataApi, LevelingCurve.addictive());
@@ -35,7 +47,8 @@ public final class PlayerLevelingService {
         Objects.requireNonNull(dataApi, "dataApi");
         this.players = dataApi.collection("players");
         this.curve = Objects.requireNonNull(curve, "curve");
-        this.maxTotalXp = computeMaxTotalXp(curve, MAX_LEVEL);
+        this.table = new LevelTable(this.curve, MAX_LEVEL);
+        this.maxTotalXp = table.maxTotalXp();
     }
 
     public LevelingCurve curve() {
@@ -61,21 +74,33 @@ public final class PlayerLevelingService {
     }
 
     public LevelProgress progressFor(long xp) {
-        return curve.progressFor(clampXp(xp), MAX_LEVEL);
+        return table.progressFor(clampXp(xp));
     }
 
     public long totalXpForLevel(int level) {
-        int target = Math.max(0, Math.min(level, MAX_LEVEL));
-        long total = 0L;
-        for (int step = 0; step < target; step++) {
-            long cost = curve.xpForNextLevel(step);
-            try {
-                total = Math.addExact(total, cost);
-            } catch (ArithmeticException exception) {
-                return Long.MAX_VALUE;
-            }
-        }
-        return total;
+        return table.totalXpForLevel(level);
+    }
+
+    public Optional<LevelProgress> cachedProgress(UUID playerId) {
+        Objects.requireNonNull(playerId, "playerId");
+        return Optional.ofNullable(progressCache.get(playerId));
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        track(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        UUID playerId = event.getPlayer().getUniqueId();
+        // Untrack first so a load completing concurrently cannot put the entry back
+        onlinePlayers.remove(playerId);
+        progressCache.remove(playerId);
+    }
+
+    void track(UUID playerId) {
+        onlinePlayers.add(Objects.requireNonNull(playerId, "playerId"));
     }
 
     public CompletionStage<Long> loadXp(UUID playerId) {
@@ -101,8 +126,19 @@ public final class PlayerLevelingService {
     }
 
     public CompletionStage<LevelProgress> loadProgress(UUID playerId) {
+        Objects.requireNonNull(playerId, "playerId");
+        LevelProgress cached = progressCache.get(playerId);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        // A write that lands while this load is in flight wins; its progress is cached before listeners run.
         return loadXp(playerId)
-            .thenApply(this::progressFor);
+            .thenApply(xp -> {
+                LevelProgress loaded = progressFor(xp);
+                LevelProgress current = progressCache.compute(playerId, (id, existing) ->
+                    !onlinePlayers.contains(id) ? null : existing != null ? existing : loaded);
+                return current != null ? current : loaded;
+            });
     }
 
     public CompletionStage<LevelProgress> addXp(UUID playerId, long delta) {
@@ -174,7 +210,11 @@ public final class PlayerLevelingService {
     }
 
     private void notifyListeners(UUID playerId, LevelProgress progress) {
-        if (playerId == null || progress == null || listeners.isEmpty()) {
+        if (playerId == null || progress == null) {
+            return;
+        }
+        progressCache.compute(playerId, (id, ignored) -> onlinePlayers.contains(id) ? progress : null);
+        if (listeners.isEmpty()) {
             return;
         }
         for (LevelUpdateListener listener : listeners) {
@@ -215,20 +255,6 @@ public final class PlayerLevelingService {
         }).thenApply(ignored -> new PrestigeResult(prestiged.get(), updatedPrestige.get(), progressRef.get()));
     }
 
-    private static long computeMaxTotalXp(LevelingCurve curve, int maxLevel) {
-        long total = 0L;
-        int cap = Math.max(0, maxLevel);
-        for (int level = 0; level < cap; level++) {
-            long cost = curve.xpForNextLevel(level);
-            try {
-                total = Math.addExact(total, cost);
-            } catch (ArithmeticException exception) {
-                return Long.MAX_VALUE;
-            }
-        }
-        return total;
-    }
-
     private static long readLong(Map<String, Object> data, String path, long defaultValue) {
         Object value = readPath(data, path);
         if (value instanceof Number number) {
@@ -1,5 +1,6 @@
 package sh.harold.fulcrum.plugin.playerdata;
 
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
@@ -48,13 +49,14 @@ final class PlayerSessionListener implements Listener {
         UUID playerId = event.getPlayer().getUniqueId();
         String username = event.getPlayer().getName();
         Instant now = Instant.now();
+        Location joinLocation = event.getPlayer().getLocation();
         sessionStarts.put(playerId, now);
 
         long startedAt = System.nanoTime();
         logger.info(() -> "[login:data] join metadata load for " + playerId + " (" + username + ")");
         players.load(playerId.toString())
             .thenCompose(document -> ensureJoinMetadata(document, now, username)
-                .thenCompose(ignored -> biomeAggregator.recordInitialVisit(document, playerId, event.getPlayer().getLocation(), now)))
+                .thenCompose(ignored -> biomeAggregator.recordInitialVisit(playerId, joinLocation, now)))
             .whenComplete((ignored, throwable) -> {
                 directoryService.invalidateRoster();
                 long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
@@ -3,6 +3,7 @@ package sh.harold.fulcrum.plugin.playerdata;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.common.data.Document;
 import sh.harold.fulcrum.common.data.DocumentCollection;
+import sh.harold.fulcrum.plugin.data.DocumentWriteQueue;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -29,15 +30,17 @@ public final class PlayerSettingsService {
     private static final UsernameView DEFAULT_USERNAME_VIEW = UsernameView.MINECRAFT;
 
     private final DocumentCollection players;
+    private final DocumentWriteQueue writes;
     private final Map<UUID, Boolean> pvpCache;
     private final Map<UUID, UsernameView> usernameViewCache;
     private final Map<UUID, Boolean> damageMarkerCache;
     private final Map<UUID, Boolean> customItemNamesCache;
     private final Map<UUID, PlayerSettings> settingsCache;
 
-    public PlayerSettingsService(DataApi dataApi) {
+    public PlayerSettingsService(DataApi dataApi, DocumentWriteQueue writes) {
         Objects.requireNonNull(dataApi, "dataApi");
         this.players = dataApi.collection("players");
+        this.writes = Objects.requireNonNull(writes, "writes");
         this.pvpCache = new ConcurrentHashMap<>();
         this.usernameViewCache = new ConcurrentHashMap<>();
         this.damageMarkerCache = new ConcurrentHashMap<>();
@@ -87,7 +90,8 @@ public final class PlayerSettingsService {
             cacheCustomItemNames(playerId, cached.customItemNamesEnabled());
             return CompletableFuture.completedFuture(cached);
         }
-        return players.load(playerId.toString())
+        return writes.flush(playerId.toString())
+            .thenCompose(ignored -> players.load(playerId.toString()))
             .thenCompose(document -> resolveSettings(document, playerId))
             .exceptionally(throwable -> {
                 throw new CompletionException("Failed to load settings for " + playerId, throwable);
@@ -96,22 +100,22 @@ public final class PlayerSettingsService {
 
     public CompletionStage<Boolean> setScoreboardEnabled(UUID playerId, boolean enabled) {
         Objects.requireNonNull(playerId, "playerId");
-        return persistSetting(playerId, SCOREBOARD_PATH, enabled, false, "scoreboard");
+        return persistSetting(playerId, SCOREBOARD_PATH, enabled, false);
     }
 
     public CompletionStage<Boolean> setPvpEnabled(UUID playerId, boolean enabled) {
         Objects.requireNonNull(playerId, "playerId");
-        return persistSetting(playerId, PVP_PATH, enabled, true, "PvP");
+        return persistSetting(playerId, PVP_PATH, enabled, true);
     }
 
     public CompletionStage<Boolean> setDamageMarkersEnabled(UUID playerId, boolean enabled) {
         Objects.requireNonNull(playerId, "playerId");
-        return persistSetting(playerId, DAMAGE_MARKERS_PATH, enabled, false, "damage markers");
+        return persistSetting(playerId, DAMAGE_MARKERS_PATH, enabled, false);
     }
 
     public CompletionStage<Boolean> setCustomItemNamesEnabled(UUID playerId, boolean enabled) {
         Objects.requireNonNull(playerId, "playerId");
-        return persistSetting(playerId, CUSTOM_ITEM_NAMES_PATH, enabled, false, "custom item names")
+        return persistSetting(playerId, CUSTOM_ITEM_NAMES_PATH, enabled, false)
             .thenApply(updated -> {
                 cacheCustomItemNames(playerId, updated);
                 updateCachedSettings(playerId, settings -> new PlayerSettings(
@@ -128,60 +132,28 @@ public final class PlayerSettingsService {
     public CompletionStage<UsernameView> setUsernameView(UUID playerId, UsernameView view) {
         Objects.requireNonNull(playerId, "playerId");
         Objects.requireNonNull(view, "view");
-        return players.load(playerId.toString())
-            .thenCompose(document -> document.set(USERNAME_VIEW_PATH, view.name()).thenApply(ignored -> view))
-            .thenApply(updated -> {
-                cacheUsernameView(playerId, updated);
-                updateCachedSettings(playerId, settings -> new PlayerSettings(
-                    settings.scoreboardEnabled(),
-                    settings.pvpEnabled(),
-                    updated,
-                    settings.damageMarkersEnabled(),
-                    settings.customItemNamesEnabled()
-                ));
-                return updated;
-            })
-            .exceptionally(throwable -> {
-                throw new CompletionException("Failed to store username view for " + playerId, throwable);
-            });
+        return CompletableFuture.completedFuture(persistUsernameView(playerId, view));
     }
 
     public CompletionStage<Boolean> toggleScoreboard(UUID playerId) {
         Objects.requireNonNull(playerId, "playerId");
-        return toggleSetting(playerId, SCOREBOARD_PATH, DEFAULT_SCOREBOARD, false, "scoreboard");
+        return toggleSetting(playerId, SCOREBOARD_PATH, false, "scoreboard");
     }
 
     public CompletionStage<Boolean> togglePvp(UUID playerId) {
         Objects.requireNonNull(playerId, "playerId");
-        return toggleSetting(playerId, PVP_PATH, DEFAULT_PVP, true, "PvP");
+        return toggleSetting(playerId, PVP_PATH, true, "PvP");
     }
 
     public CompletionStage<Boolean> toggleDamageMarkers(UUID playerId) {
         Objects.requireNonNull(playerId, "playerId");
-        return toggleSetting(playerId, DAMAGE_MARKERS_PATH, DEFAULT_DAMAGE_MARKERS, false, "damage markers");
+        return toggleSetting(playerId, DAMAGE_MARKERS_PATH, false, "damage markers");
     }
 
     public CompletionStage<UsernameView> toggleUsernameView(UUID playerId) {
         Objects.requireNonNull(playerId, "playerId");
-        return players.load(playerId.toString())
-            .thenCompose(document -> {
-                UsernameView current = document.get(USERNAME_VIEW_PATH, String.class)
-                    .map(UsernameView::fromConfig)
-                    .orElse(DEFAULT_USERNAME_VIEW);
-                UsernameView updated = current.next();
-                return document.set(USERNAME_VIEW_PATH, updated.name()).thenApply(ignored -> updated);
-            })
-            .thenApply(updated -> {
-                cacheUsernameView(playerId, updated);
-                updateCachedSettings(playerId, settings -> new PlayerSettings(
-                    settings.scoreboardEnabled(),
-                    settings.pvpEnabled(),
-                    updated,
-                    settings.damageMarkersEnabled(),
-                    settings.customItemNamesEnabled()
-                ));
-                return updated;
-            })
+        return loadSettings(playerId)
+            .thenApply(settings -> persistUsernameView(playerId, settings.usernameView().next()))
             .exceptionally(throwable -> {
                 throw new CompletionException("Failed to toggle username view for " + playerId, throwable);
             });
@@ -189,7 +161,7 @@ public final class PlayerSettingsService {
 
     public CompletionStage<Boolean> toggleCustomItemNames(UUID playerId) {
         Objects.requireNonNull(playerId, "playerId");
-        return toggleSetting(playerId, CUSTOM_ITEM_NAMES_PATH, DEFAULT_CUSTOM_ITEM_NAMES, false, "custom item names")
+        return toggleSetting(playerId, CUSTOM_ITEM_NAMES_PATH, false, "custom item names")
             .thenApply(updated -> {
                 cacheCustomItemNames(playerId, updated);
                 updateCachedSettings(playerId, settings -> new PlayerSettings(
@@ -283,52 +255,58 @@ public final class PlayerSettingsService {
         });
     }
 
-    private CompletionStage<Boolean> persistSetting(UUID playerId, String path, boolean value, boolean cachePvp, String label) {
-        return players.load(playerId.toString())
-            .thenCompose(document -> document.set(path, value).thenApply(ignored -> value))
-            .thenApply(updated -> {
-                if (cachePvp) {
-                    cachePvp(playerId, updated);
-                }
-                if (path.equals(DAMAGE_MARKERS_PATH)) {
-                    cacheDamageMarkers(playerId, updated);
-                }
-                if (path.equals(CUSTOM_ITEM_NAMES_PATH)) {
-                    cacheCustomItemNames(playerId, updated);
-                }
-                updateCachedSettings(playerId, settings -> updatedSettings(settings, path, updated));
-                return updated;
-            })
-            .exceptionally(throwable -> {
-                throw new CompletionException("Failed to store " + label + " setting for " + playerId, throwable);
-            });
+    /**
+     * Updates the caches right away and queues the write; rapid toggles collapse into one patch.
+     */
+    private CompletionStage<Boolean> persistSetting(UUID playerId, String path, boolean value, boolean cachePvp) {
+        writes.set(playerId.toString(), path, value);
+        if (cachePvp) {
+            cachePvp(playerId, value);
+        }
+        if (path.equals(DAMAGE_MARKERS_PATH)) {
+            cacheDamageMarkers(playerId, value);
+        }
+        if (path.equals(CUSTOM_ITEM_NAMES_PATH)) {
+            cacheCustomItemNames(playerId, value);
+        }
+        updateCachedSettings(playerId, settings -> updatedSettings(settings, path, value));
+        return CompletableFuture.completedFuture(value);
     }
 
-    private CompletionStage<Boolean> toggleSetting(UUID playerId, String path, boolean defaultValue, boolean cachePvp, String label) {
-        return players.load(playerId.toString())
-            .thenCompose(document -> {
-                boolean current = document.get(path, Boolean.class).orElse(defaultValue);
-                boolean updated = !current;
-                return document.set(path, updated).thenApply(ignored -> updated);
-            })
-            .thenApply(updated -> {
-                if (cachePvp) {
-                    cachePvp(playerId, updated);
-                }
-                if (path.equals(DAMAGE_MARKERS_PATH)) {
-                    cacheDamageMarkers(playerId, updated);
-                }
-                if (path.equals(CUSTOM_ITEM_NAMES_PATH)) {
-                    cacheCustomItemNames(playerId, updated);
-                }
-                updateCachedSettings(playerId, settings -> updatedSettings(settings, path, updated));
-                return updated;
-            })
+    private UsernameView persistUsernameView(UUID playerId, UsernameView view) {
+        writes.set(playerId.toString(), USERNAME_VIEW_PATH, view.name());
+        cacheUsernameView(playerId, view);
+        updateCachedSettings(playerId, settings -> new PlayerSettings(
+            settings.scoreboardEnabled(),
+            settings.pvpEnabled(),
+            view,
+            settings.damageMarkersEnabled(),
+            settings.customItemNamesEnabled()
+        ));
+        return view;
+    }
+
+    private CompletionStage<Boolean> toggleSetting(UUID playerId, String path, boolean cachePvp, String label) {
+        return loadSettings(playerId)
+            .thenCompose(settings -> persistSetting(playerId, path, !currentValue(settings, path), cachePvp))
             .exceptionally(throwable -> {
                 throw new CompletionException("Failed to toggle " + label + " setting for " + playerId, throwable);
             });
     }
 
+    private boolean currentValue(PlayerSettings settings, String path) {
+        if (path.equals(SCOREBOARD_PATH)) {
+            return settings.scoreboardEnabled();
+        }
+        if (path.equals(PVP_PATH)) {
+            return settings.pvpEnabled();
+        }
+        if (path.equals(DAMAGE_MARKERS_PATH)) {
+            return settings.damageMarkersEnabled();
+        }
+        return settings.customItemNamesEnabled();
+    }
+
     private void cachePvp(UUID playerId, boolean enabled) {
         pvpCache.put(playerId, enabled);
     }
@@ -7,7 +7,9 @@ import com.github.retrooper.packetevents.protocol.entity.data.EntityData;
 import com.github.retrooper.packetevents.protocol.entity.data.EntityDataTypes;
 import com.github.retrooper.packetevents.protocol.entity.type.EntityTypes;
 import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.User;
 import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerEntityMetadata;
 import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerPlayerInfo;
@@ -31,8 +33,11 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.Plugin;
 import sh.harold.fulcrum.common.data.DataApi;
+import sh.harold.fulcrum.plugin.packet.PacketEntityIds;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -43,7 +48,6 @@ import java.util.Arrays;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -67,9 +71,12 @@ public final class UsernameDisplayService implements Listener {
     private final Map<UUID, String> vanillaNames = new ConcurrentHashMap<>();
     private final Map<UUID, Integer> levelCache = new ConcurrentHashMap<>();
     private final Map<UUID, Long> recentHealthRefresh = new ConcurrentHashMap<>();
-    private final AtomicInteger nextCarrierEntityId = new AtomicInteger(Integer.MAX_VALUE);
     private final Map<UUID, ViewerNametagState> viewerNametagStates = new ConcurrentHashMap<>();
+    private final Set<UUID> dirtyTargets = ConcurrentHashMap.newKeySet();
+    private final Map<UUID, Set<Integer>> pendingSpawnApplies = new ConcurrentHashMap<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
     private final boolean debug = false;
+    private Map<UUID, List<PacketWrapper<?>>> batch;
 
     public UsernameDisplayService(
         Plugin plugin,
@@ -115,6 +122,7 @@ public final class UsernameDisplayService implements Listener {
         levelCache.remove(playerId);
         recentHealthRefresh.remove(playerId);
         viewerNametagStates.remove(playerId);
+        pendingSpawnApplies.remove(playerId);
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
@@ -152,7 +160,7 @@ public final class UsernameDisplayService implements Listener {
             return;
         }
         levelCache.put(playerId, progress.level());
-        plugin.getServer().getScheduler().runTask(plugin, () -> refreshTarget(playerId));
+        markDirty(playerId);
     }
 
     public void refreshView(Player viewer) {
@@ -160,11 +168,11 @@ public final class UsernameDisplayService implements Listener {
             return;
         }
         UsernameView preference = settingsService.cachedUsernameView(viewer.getUniqueId());
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
+        plugin.getServer().getScheduler().runTask(plugin, () -> sendBatched(() -> {
             sendTabUpdate(viewer, preference);
             ensureSelfTracked(viewer);
             refreshNametagView(viewer, preference);
-        });
+        }));
     }
 
     private void ensureSelfTracked(Player viewer) {
@@ -215,34 +223,110 @@ public final class UsernameDisplayService implements Listener {
             EnumSet.of(WrapperPlayServerPlayerInfoUpdate.Action.UPDATE_DISPLAY_NAME),
             entries
         );
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+        send(viewer, packet);
     }
 
-    private void refreshTarget(UUID targetId) {
-        if (targetId == null) {
-            return;
+    private void markDirty(UUID targetId) {
+        dirtyTargets.add(targetId);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            plugin.getServer().getScheduler().runTask(plugin, this::flushPending);
         }
-        Player target = plugin.getServer().getPlayer(targetId);
-        if (target == null || !target.isOnline()) {
+    }
+
+    private void flushPending() {
+        flushScheduled.set(false);
+        List<Player> targets = new ArrayList<>();
+        for (UUID targetId : List.copyOf(dirtyTargets)) {
+            dirtyTargets.remove(targetId);
+            Player target = plugin.getServer().getPlayer(targetId);
+            if (target != null && target.isOnline()) {
+                targets.add(target);
+            }
+        }
+        Map<UUID, Set<Integer>> spawnApplies = new HashMap<>();
+        for (UUID viewerId : List.copyOf(pendingSpawnApplies.keySet())) {
+            Set<Integer> entityIds = pendingSpawnApplies.remove(viewerId);
+            if (entityIds != null) {
+                spawnApplies.put(viewerId, entityIds);
+            }
+        }
+        if (targets.isEmpty() && spawnApplies.isEmpty()) {
             return;
         }
-        int level = cachedLevel(targetId);
-        for (Player viewer : plugin.getServer().getOnlinePlayers()) {
+        sendBatched(() -> {
+            if (!targets.isEmpty()) {
+                for (Player viewer : plugin.getServer().getOnlinePlayers()) {
+                    refreshTargets(viewer, targets);
+                }
+            }
+            spawnApplies.forEach(this::applySpawnedNametags);
+        });
+    }
+
+    private void refreshTargets(Player viewer, List<Player> targets) {
+        UsernameView preference = settingsService.cachedUsernameView(viewer.getUniqueId());
+        List<WrapperPlayServerPlayerInfoUpdate.PlayerInfo> entries = new ArrayList<>(targets.size());
+        for (Player target : targets) {
             if (!viewer.equals(target) && !viewer.canSee(target)) {
                 continue;
             }
-            UsernameView preference = settingsService.cachedUsernameView(viewer.getUniqueId());
+            UUID targetId = target.getUniqueId();
             UsernameBaseNameResolver.BaseName baseName = baseNameResolver.resolve(preference, targetId, target.getName());
-            Component decorated = tabNameDecorator.decorateForTab(targetId, target, baseName.component(), level);
+            Component decorated = tabNameDecorator.decorateForTab(targetId, target, baseName.component(), cachedLevel(targetId));
             WrapperPlayServerPlayerInfoUpdate.PlayerInfo info = new WrapperPlayServerPlayerInfoUpdate.PlayerInfo(targetId);
             info.setDisplayName(decorated);
-            var packet = new WrapperPlayServerPlayerInfoUpdate(
-                EnumSet.of(WrapperPlayServerPlayerInfoUpdate.Action.UPDATE_DISPLAY_NAME),
-                List.of(info)
-            );
-            PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+            entries.add(info);
             refreshNametagForTarget(viewer, preference, targetId);
         }
+        if (entries.isEmpty()) {
+            return;
+        }
+        send(viewer, new WrapperPlayServerPlayerInfoUpdate(
+            EnumSet.of(WrapperPlayServerPlayerInfoUpdate.Action.UPDATE_DISPLAY_NAME),
+            entries
+        ));
+    }
+
+    /**
+     * Runs main-thread work that sends nametag packets, holding them back so each viewer gets one flush.
+     * Sends from packet listeners on netty threads keep going straight out.
+     */
+    private void sendBatched(Runnable work) {
+        if (batch != null) {
+            work.run();
+            return;
+        }
+        Map<UUID, List<PacketWrapper<?>>> pending = new HashMap<>();
+        batch = pending;
+        try {
+            work.run();
+        } finally {
+            batch = null;
+        }
+        for (Map.Entry<UUID, List<PacketWrapper<?>>> entry : pending.entrySet()) {
+            Player viewer = plugin.getServer().getPlayer(entry.getKey());
+            if (viewer == null || !viewer.isOnline()) {
+                continue;
+            }
+            User user = PacketEvents.getAPI().getPlayerManager().getUser(viewer);
+            if (user == null) {
+                continue;
+            }
+            entry.getValue().forEach(user::writePacket);
+            user.flushPackets();
+        }
+    }
+
+    private void send(Player viewer, PacketWrapper<?> packet) {
+        if (plugin.getServer().isPrimaryThread() && batch != null) {
+            batch.computeIfAbsent(viewer.getUniqueId(), ignored -> new ArrayList<>()).add(packet);
+            return;
+        }
+        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
     }
 
     private void refreshNametagForTarget(Player viewer, UsernameView preference, UUID targetId) {
@@ -270,6 +354,11 @@ public final class UsernameDisplayService implements Listener {
         if (cached != null) {
             return cached;
         }
+        Optional<LevelProgress> progress = levelingService.cachedProgress(playerId);
+        if (progress.isPresent()) {
+            levelCache.put(playerId, progress.get().level());
+            return progress.get().level();
+        }
         loadLevel(playerId);
         return 0;
     }
@@ -362,22 +451,26 @@ public final class UsernameDisplayService implements Listener {
         if (viewerId == null) {
             return;
         }
-        plugin.getServer().getScheduler().runTask(plugin, () -> {
-            Player viewer = plugin.getServer().getPlayer(viewerId);
-            if (viewer == null || !viewer.isOnline()) {
-                return;
-            }
-            ViewerNametagState state = viewerNametagStates.get(viewerId);
-            if (state == null) {
-                return;
-            }
+        pendingSpawnApplies.computeIfAbsent(viewerId, ignored -> ConcurrentHashMap.newKeySet()).add(targetEntityId);
+        scheduleFlush();
+    }
+
+    private void applySpawnedNametags(UUID viewerId, Set<Integer> targetEntityIds) {
+        Player viewer = plugin.getServer().getPlayer(viewerId);
+        if (viewer == null || !viewer.isOnline()) {
+            return;
+        }
+        ViewerNametagState state = viewerNametagStates.get(viewerId);
+        if (state == null) {
+            return;
+        }
+        UsernameView preference = settingsService.cachedUsernameView(viewerId);
+        for (int targetEntityId : targetEntityIds) {
             TrackedPlayer tracked = state.trackedPlayers.get(targetEntityId);
-            if (tracked == null) {
-                return;
+            if (tracked != null) {
+                applyViewerNametag(viewer, state, targetEntityId, tracked, preference);
             }
-            UsernameView preference = settingsService.cachedUsernameView(viewerId);
-            applyViewerNametag(viewer, state, targetEntityId, tracked, preference);
-        });
+        }
     }
 
     private Vector3d resolveCurrentPosition(UUID targetId, Vector3d fallback) {
@@ -403,7 +496,7 @@ public final class UsernameDisplayService implements Listener {
         CarrierEntity existing = state.carriers.get(targetEntityId);
         if (existing == null) {
             ensureHiddenNametag(viewer, state, targetEntryName);
-            int carrierEntityId = nextCarrierEntityId.getAndDecrement();
+            int carrierEntityId = PacketEntityIds.next();
             UUID carrierId = UUID.randomUUID();
             var spawn = new WrapperPlayServerSpawnEntity(
                 carrierEntityId,
@@ -416,7 +509,7 @@ public final class UsernameDisplayService implements Listener {
                 0,
                 Optional.empty()
             );
-            PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, spawn);
+            send(viewer, spawn);
             sendCarrierMetadata(viewer, carrierEntityId, displayName);
             state.carriers.put(targetEntityId, new CarrierEntity(carrierEntityId, targetEntryName, displayName));
             attachCarrier(viewer, state, targetEntityId, carrierEntityId);
@@ -438,7 +531,7 @@ public final class UsernameDisplayService implements Listener {
             detachCarrier(viewer, state, targetEntityId, carrier.entityId());
         }
         releaseHiddenNametag(viewer, state, carrier.targetEntryName());
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, new WrapperPlayServerDestroyEntities(carrier.entityId()));
+        send(viewer, new WrapperPlayServerDestroyEntities(carrier.entityId()));
     }
 
     private void sendCarrierMetadata(Player viewer, int carrierEntityId, Component displayName) {
@@ -447,13 +540,13 @@ public final class UsernameDisplayService implements Listener {
             new EntityData<>(CUSTOM_NAME_VISIBILITY_INDEX, EntityDataTypes.BOOLEAN, true),
             new EntityData<>(NO_GRAVITY_INDEX, EntityDataTypes.BOOLEAN, true)
         );
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, new WrapperPlayServerEntityMetadata(carrierEntityId, metadata));
+        send(viewer, new WrapperPlayServerEntityMetadata(carrierEntityId, metadata));
     }
 
     private void attachCarrier(Player viewer, ViewerNametagState state, int targetEntityId, int carrierEntityId) {
         int[] basePassengers = resolveBasePassengers(state, targetEntityId);
         int[] merged = appendPassenger(basePassengers, carrierEntityId);
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, new WrapperPlayServerSetPassengers(targetEntityId, merged));
+        send(viewer, new WrapperPlayServerSetPassengers(targetEntityId, merged));
     }
 
     private void detachCarrier(Player viewer, ViewerNametagState state, int targetEntityId, int carrierEntityId) {
@@ -461,7 +554,7 @@ public final class UsernameDisplayService implements Listener {
         if (containsPassenger(basePassengers, carrierEntityId)) {
             basePassengers = removePassenger(basePassengers, carrierEntityId);
         }
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, new WrapperPlayServerSetPassengers(targetEntityId, basePassengers));
+        send(viewer, new WrapperPlayServerSetPassengers(targetEntityId, basePassengers));
     }
 
     private int[] resolveBasePassengers(ViewerNametagState state, int targetEntityId) {
@@ -553,7 +646,7 @@ public final class UsernameDisplayService implements Listener {
             Optional.empty(),
             List.of(entryName)
         );
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+        send(viewer, packet);
     }
 
     private void releaseHiddenNametag(Player viewer, ViewerNametagState state, String entryName) {
@@ -569,7 +662,7 @@ public final class UsernameDisplayService implements Listener {
             Optional.empty(),
             List.of(entryName)
         );
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+        send(viewer, packet);
     }
 
     private void ensureHideTeam(Player viewer, ViewerNametagState state) {
@@ -591,7 +684,7 @@ public final class UsernameDisplayService implements Listener {
             info,
             List.of()
         );
-        PacketEvents.getAPI().getPlayerManager().sendPacket(viewer, packet);
+        send(viewer, packet);
     }
 
     private void refreshHealthIfPeaceful(Entity entity) {
@@ -608,7 +701,7 @@ public final class UsernameDisplayService implements Listener {
             return;
         }
         recentHealthRefresh.put(playerId, now);
-        plugin.getServer().getScheduler().runTask(plugin, () -> plugin.getServer().getOnlinePlayers().forEach(this::refreshView));
+        markDirty(playerId);
     }
 
     private void clearNametagForTarget(UUID targetId) {
@@ -1,11 +1,10 @@
 package sh.harold.fulcrum.plugin.playerhead;
 
-import com.destroystokyo.paper.profile.PlayerProfile;
 import net.kyori.adventure.text.Component;
-import org.bukkit.Material;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.inventory.meta.SkullMeta;
+import org.bukkit.inventory.meta.ItemMeta;
+import sh.harold.fulcrum.api.menu.util.PlayerHeads;
 import sh.harold.fulcrum.plugin.item.ItemEngine;
 
 import java.util.Objects;
@@ -18,14 +17,10 @@ record PlayerHeadFactory(ItemEngine itemEngine) {
 
     ItemStack createHead(Player player) {
         Objects.requireNonNull(player, "player");
-        ItemStack head = new ItemStack(Material.PLAYER_HEAD);
-        SkullMeta meta = (SkullMeta) head.getItemMeta();
+        ItemStack head = PlayerHeads.head(player.getUniqueId());
+        ItemMeta meta = head.getItemMeta();
         if (meta != null) {
             meta.displayName(Component.text("Player Head"));
-            PlayerProfile profile = player.getPlayerProfile();
-            if (profile != null) {
-                meta.setPlayerProfile(profile.clone());
-            }
             head.setItemMeta(meta);
         }
         return itemEngine.sanitizeStackable(head);
@@ -88,6 +88,7 @@ final class BankMenuView {
                 }
 
                 MenuDisplayItem balance = MenuDisplayItem.builder(Material.EMERALD)
+                    .cached("bank:balance:" + playerId, state.shards())
                     .name("&aShard Balance")
                     .secondary("Savings")
                     .description("&7Shards: &b" + state.shards())
@@ -97,6 +98,7 @@ final class BankMenuView {
                 MenuButton stagedButton = buildStagedButton(session, state.shards());
                 String[] ledgerLore = formatLedger(state.entries()).toArray(String[]::new);
                 MenuButton ledgerButton = MenuButton.builder(Material.BOOK)
+                    .cached("bank:ledger:" + playerId, List.of(ledgerLore))
                     .name("&dView Transactions")
                     .secondary("Ledger")
                     .description("Recent shard activity.")
@@ -107,6 +109,7 @@ final class BankMenuView {
                     .build();
 
                 MenuButton backButton = MenuButton.builder(Material.ARROW)
+                    .cached("bank:back", 0L)
                     .name("&7Back")
                     .secondary("Player Menu")
                     .description("Return to the player menu.")
@@ -155,6 +158,7 @@ final class BankMenuView {
         ItemStack staged = session.stagedItem();
         if (staged == null || staged.getType().isAir()) {
             return MenuButton.builder(Material.STONE_BUTTON)
+                .cached("bank:deposit-prompt", 0L)
                 .name("&bShatter Diamonds")
                 .secondary("Deposit")
                 .lore(" ")
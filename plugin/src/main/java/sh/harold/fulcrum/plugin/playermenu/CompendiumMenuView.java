@@ -19,6 +19,7 @@ import sh.harold.fulcrum.common.data.Document;
 import sh.harold.fulcrum.common.data.DocumentCollection;
 import sh.harold.fulcrum.plugin.item.enchant.EnchantDefinition;
 import sh.harold.fulcrum.plugin.item.enchant.EnchantRegistry;
+import sh.harold.fulcrum.plugin.playerdata.PlayerDocumentSections;
 
 import java.util.Comparator;
 import java.util.List;
@@ -36,21 +37,21 @@ final class CompendiumMenuView {
     private static final int HUB_ROWS = 6;
     private static final int ENCHANT_ROWS = 6;
     private static final int BIOME_ROWS = 6;
-    private static final String BIOME_ROOT = "travel.biomes";
+    private static final String BIOME_ROOT = PlayerDocumentSections.BIOMES_PATH;
 
     private final JavaPlugin plugin;
     private final MenuService menuService;
     private final EnchantRegistry enchantRegistry;
-    private final DocumentCollection players;
+    private final DocumentCollection travel;
     private final Logger logger;
     private Consumer<Player> hubBackAction = player -> {
     };
 
-    CompendiumMenuView(JavaPlugin plugin, MenuService menuService, EnchantRegistry enchantRegistry, DocumentCollection players) {
+    CompendiumMenuView(JavaPlugin plugin, MenuService menuService, EnchantRegistry enchantRegistry, DocumentCollection travel) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.menuService = Objects.requireNonNull(menuService, "menuService");
         this.enchantRegistry = enchantRegistry;
-        this.players = players;
+        this.travel = travel;
         this.logger = plugin.getLogger();
     }
 
@@ -141,11 +142,11 @@ final class CompendiumMenuView {
 
     private void openBiomes(Player player) {
         Objects.requireNonNull(player, "player");
-        if (players == null) {
+        if (travel == null) {
             player.sendMessage(Component.text("Biome records are offline right now.", NamedTextColor.RED));
             return;
         }
-        players.load(player.getUniqueId().toString())
+        travel.load(player.getUniqueId().toString())
             .thenAccept(document -> renderBiomes(player, document))
             .exceptionally(throwable -> {
                 logger.log(Level.SEVERE, "Failed to open biomes for " + player.getUniqueId(), throwable);
@@ -58,6 +58,7 @@ final class LevelMenuView {
 
     private CompletionStage<Void> openMenu(Player player, LevelProgress progress) {
         MenuButton progressItem = MenuButton.builder(Material.EXPERIENCE_BOTTLE)
+            .cached("level-menu:progress:" + player.getUniqueId(), progress.totalXp())
             .name("&aLevel " + progress.level())
             .secondary("Progression")
             .description("Keep earning XP; each level opens new momentum.")
@@ -73,6 +74,7 @@ final class LevelMenuView {
         int scrollRightSlot = (ROWS - 1) * 9 + 8;
 
         MenuButton backButton = MenuButton.builder(Material.ARROW)
+            .cached("level-menu:back", 0L)
             .name("&7Back")
             .secondary("Player Menu")
             .description("Return to your player menu hub.")
@@ -82,6 +84,7 @@ final class LevelMenuView {
             .build();
 
         MenuButton tierInfoButton = MenuButton.builder(Material.BOOK)
+            .cached("level-menu:tier-info", 0L)
             .name("&bLevel Colors")
             .secondary("Progression")
             .description("Levels show your journey; XP keeps them climbing. Colors mark your tier; each range has its own shade.")
@@ -162,6 +165,7 @@ final class LevelMenuView {
 
     private CompletionStage<Void> openTierMenu(Player player, LevelTier activeTier) {
         MenuButton backButton = MenuButton.builder(Material.ARROW)
+            .cached("level-colors:back", 0L)
             .name("&7Back")
             .secondary("Level Overview")
             .description("Return to the level overview.")
@@ -206,6 +210,7 @@ final class LevelMenuView {
             int min = tier.minLevel();
             int max = index + 1 < tiers.length ? tiers[index + 1].minLevel() - 1 : maxLevel;
             MenuButton item = MenuButton.builder(dyeForTier(tier))
+                .cached("level-colors:" + tier.name() + ":" + max, tier == activeTier ? 1L : 0L)
                 .name(tierDisplayName(tier))
                 .secondary(tierRangeLabel(min, max))
                 .description("Tint used for your level prefix and name.")
@@ -230,6 +235,7 @@ final class LevelMenuView {
 
     private CompletionStage<Void> openTierPreviewMenu(Player player, LevelTier tier, LevelProgress progress) {
         MenuButton backButton = MenuButton.builder(Material.ARROW)
+            .cached("level-preview:back", 0L)
             .name("&7Back")
             .secondary("Level Colors")
             .description("Return to the color overview.")
@@ -326,6 +332,7 @@ final class LevelMenuView {
                 : statusDescription(isUnlocked, isCurrent, levelValue);
 
             MenuDisplayItem item = MenuDisplayItem.builder(material)
+                .cached("level-menu:level:" + levelValue + ":" + (index + 1), levelStateVersion(isUnlocked, isCurrent, isTierCap))
                 .name(nameColor + "Level " + levelValue)
                 .secondary(secondary)
                 .description(description)
@@ -361,6 +368,10 @@ final class LevelMenuView {
         return new TierRange(resolved, minLevel, maxLevel, totalLevels);
     }
 
+    private long levelStateVersion(boolean unlocked, boolean current, boolean tierCap) {
+        return (unlocked ? 1L : 0L) | (current ? 2L : 0L) | (tierCap ? 4L : 0L);
+    }
+
     private Material paneForStatus(boolean unlocked, boolean current) {
         if (current) {
             return CURRENT_PANE;
@@ -486,6 +497,7 @@ final class LevelMenuView {
             boolean isCurrent = level == currentLevel;
             boolean isUnlocked = level < currentLevel;
             MenuDisplayItem item = MenuDisplayItem.builder(paneForStatus(isUnlocked, isCurrent))
+                .cached("level-preview:level:" + level + ":" + (level - min + 1), levelStateVersion(isUnlocked, isCurrent, false))
                 .name(statusLegacyColor(isUnlocked, isCurrent) + "Level " + level)
                 .secondary(statusLabel(isUnlocked, isCurrent))
                 .description(statusDescription(isUnlocked, isCurrent, level))
@@ -553,6 +565,7 @@ final class LevelMenuView {
                 continue;
             }
             MenuButton filler = MenuButton.builder(Material.BLACK_STAINED_GLASS_PANE)
+                .cached("level-menu:filler", 0L)
                 .name("")
                 .skipClickPrompt()
                 .slot(slot)
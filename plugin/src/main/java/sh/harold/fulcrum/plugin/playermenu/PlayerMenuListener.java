@@ -20,6 +20,7 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.InventoryView;
 import org.bukkit.block.Block;
+import sh.harold.fulcrum.api.menu.util.PlayerHeads;
 import sh.harold.fulcrum.plugin.staff.StaffCreativeService;
 
 import java.util.HashMap;
@@ -38,6 +39,7 @@ final class PlayerMenuListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onJoin(PlayerJoinEvent event) {
+        PlayerHeads.invalidate(event.getPlayer().getUniqueId());
         menuService.distribute(event.getPlayer());
     }
 
@@ -18,7 +18,6 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.SkullMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.java.JavaPlugin;
@@ -37,6 +36,7 @@ import sh.harold.fulcrum.common.data.ledger.LedgerRepository;
 import sh.harold.fulcrum.plugin.playerdata.LevelProgress;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDirectoryEntry;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDirectoryService;
+import sh.harold.fulcrum.plugin.playerdata.PlayerDocumentSections;
 import sh.harold.fulcrum.plugin.playerdata.PlayerLevelingService;
 import sh.harold.fulcrum.plugin.playerdata.PlayerSettings;
 import sh.harold.fulcrum.plugin.playerdata.PlayerSettingsService;
@@ -183,7 +183,7 @@ public final class PlayerMenuService {
             plugin,
             menuService,
             enchantRegistry,
-            players
+            PlayerDocumentSections.travel(dataApi)
         );
         this.statBreakdownView = new StatBreakdownView(
             plugin,
@@ -230,25 +230,22 @@ public final class PlayerMenuService {
     }
 
     private CompletionStage<Void> openMenu(Player player, LevelProgress progress) {
+        List<String> summary = statSummaryLore(player, progress);
         MenuButton headline = MenuButton.builder(Material.PLAYER_HEAD)
+            .cached("player-menu:headline:" + player.getUniqueId(), summary)
             .name("&aYour Information")
             .secondary("Profile Hub")
-            .lore(statSummaryLore(player, progress).toArray(String[]::new))
+            .lore(summary.toArray(String[]::new))
             .description("Levels and stats live together here.")
+            .skullOwner(player.getUniqueId())
             .slot(MENU_HEADLINE_SLOT)
             .sound(Sound.UI_BUTTON_CLICK)
             .onClick(this::openProfileMenuClick)
             .build();
-        ItemStack headlineStack = headline.getDisplayItem();
-        ItemMeta headlineMeta = headlineStack.getItemMeta();
-        if (headlineMeta instanceof SkullMeta skullMeta) {
-            skullMeta.setOwningPlayer(player);
-            headlineStack.setItemMeta(skullMeta);
-            headline.setDisplayItem(headlineStack);
-        }
 
         int closeSlot = MenuButton.getCloseSlot(MENU_ROWS);
         MenuButton settingsButton = MenuButton.builder(Material.REDSTONE_TORCH)
+            .cached("player-menu:settings", 0L)
             .name("&cView/Modify Settings")
             .secondary("Game Settings")
             .description("Adjust gameplay preferences and other options.")
@@ -257,6 +254,7 @@ public final class PlayerMenuService {
             .onClick(viewer -> openSettings(viewer))
             .build();
         MenuButton directoryButton = MenuButton.builder(Material.PLAYER_HEAD)
+            .cached("player-menu:directory", 0L)
             .name("&bPlayer Directory")
             .secondary("Roster")
             .description("Browse everyone who has visited the server.")
@@ -265,6 +263,7 @@ public final class PlayerMenuService {
             .onClick(this::openPlayerDirectory)
             .build();
         MenuButton bankButton = MenuButton.builder(Material.ENDER_CHEST)
+            .cached("player-menu:bank", 0L)
             .name("&bBank")
             .secondary("Economy")
             .description("Shatter diamonds into shards and peek at transactions.")
@@ -273,6 +272,7 @@ public final class PlayerMenuService {
             .onClick(this::openBankMenu)
             .build();
         MenuButton perksButton = MenuButton.builder(Material.ENCHANTED_BOOK)
+            .cached("player-menu:perks", 0L)
             .name("&dPerks & Upgrades")
             .secondary("Gameplay")
             .description("Unlock and toggle perks you have earned.")
@@ -281,6 +281,7 @@ public final class PlayerMenuService {
             .onClick(viewer -> perkMenuView.openHub(viewer, this::openMenu))
             .build();
         MenuButton compendiumButton = MenuButton.builder(Material.KNOWLEDGE_BOOK)
+            .cached("player-menu:compendium", 0L)
             .name("&bCompendium")
             .secondary("Knowledge")
             .description("Browse collected knowledge, from biomes to enchantments.")
@@ -289,6 +290,7 @@ public final class PlayerMenuService {
             .onClick(viewer -> compendiumMenuView.openHub(viewer, this::openMenu))
             .build();
         MenuButton cosmeticsButton = MenuButton.builder(Material.FIREWORK_STAR)
+            .cached("player-menu:cosmetics", 0L)
             .name("&6Cosmetics")
             .secondary("Style")
             .description("Browse trails, prefixes, statuses, and player menu skins.")
@@ -299,6 +301,7 @@ public final class PlayerMenuService {
         List<MenuDisplayItem> comingSoon = new ArrayList<>();
         for (int slot = 24; slot <= 26; slot++) {
             MenuDisplayItem placeholder = MenuDisplayItem.builder(Material.GRAY_STAINED_GLASS_PANE)
+                .cached("player-menu:coming-soon", 0L)
                 .name("&7???")
                 .secondary("Coming Soon")
                 .description("Fresh perks will land here soon; stay curious.")
@@ -356,27 +359,32 @@ public final class PlayerMenuService {
     }
 
     private CompletionStage<Void> openProfileMenu(Player player, LevelProgress progress) {
+        List<String> statPreview = statPreviewLines(player);
+        List<String> progressLines = progressBlock(progress);
         MenuButton statsButton = MenuButton.builder(Material.IRON_SWORD)
+            .cached("player-profile:stats:" + player.getUniqueId(), statPreview)
             .name("&aStats")
             .secondary("Core Gameplay")
             .description("Inspect your stat breakdown and the sources behind it.")
             .lore("")
-            .lore(statPreviewLines(player).toArray(String[]::new))
+            .lore(statPreview.toArray(String[]::new))
             .slot(20)
             .sound(Sound.UI_BUTTON_CLICK)
             .onClick(statBreakdownView::open)
             .build();
         MenuButton levelsButton = MenuButton.builder(Material.EXPERIENCE_BOTTLE)
+            .cached("player-profile:levels:" + player.getUniqueId(), progress.totalXp())
             .name("&bLevels")
             .secondary("Progression")
             .description("Track your level and see XP progress at a glance.")
             .lore("")
-            .lore(progressBlock(progress).toArray(String[]::new))
+            .lore(progressLines.toArray(String[]::new))
             .slot(24)
             .sound(Sound.UI_BUTTON_CLICK)
             .onClick(levelMenuView::open)
             .build();
         MenuButton backButton = MenuButton.builder(Material.ARROW)
+            .cached("player-profile:back", 0L)
             .name("&7Back")
             .secondary("Player Menu")
             .description("Return to the main player menu.")
@@ -543,14 +551,16 @@ public final class PlayerMenuService {
     private MenuDisplayItem buildDirectoryItem(PlayerDirectoryEntry entry) {
         boolean online = plugin.getServer().getPlayer(entry.id()) != null;
         String pvp = entry.pvpEnabled() ? "&aEnabled &c[☠]" : "&cDisabled &a[☮]";
+        String lastSeen = entry.lastSeenLabel(online);
 
         MenuDisplayItem item = MenuDisplayItem.builder(Material.PLAYER_HEAD)
+            .cached("player-directory:" + entry.id(), List.of(entry, lastSeen))
             .name("&a" + entry.username())
             .secondary("UUID: " + entry.shortId())
             .lore("")
             .lore("&7Playtime: &e" + entry.playtimeLabel())
             .lore("&7First join: &b" + entry.firstJoinLabel())
-            .lore("&7Last seen: &b" + entry.lastSeenLabel(online))
+            .lore("&7Last seen: &b" + lastSeen)
             .lore("")
             .lore("&7PvP: " + pvp)
             .lore("")
@@ -559,16 +569,9 @@ public final class PlayerMenuService {
             .lore("&7osu! country: " + colorOsuValue(entry.osuCountryLabel(), entry.hasOsuCountry()))
             .lore("")
             .lore("&7Discord: " + colorDiscord(entry))
+            .skullOwner(entry.id())
             .build();
 
-        ItemStack display = item.getDisplayItem();
-        ItemMeta meta = display.getItemMeta();
-        if (meta instanceof SkullMeta skullMeta) {
-            skullMeta.setOwningPlayer(plugin.getServer().getOfflinePlayer(entry.id()));
-            display.setItemMeta(skullMeta);
-            item.setDisplayItem(display);
-        }
-
         return item;
     }
 
@@ -10,7 +10,6 @@ import org.bukkit.Sound;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
-import org.bukkit.inventory.meta.SkullMeta;
 import sh.harold.fulcrum.api.menu.MenuService;
 import sh.harold.fulcrum.api.menu.component.MenuButton;
 import sh.harold.fulcrum.api.menu.component.MenuDisplayItem;
@@ -257,19 +256,13 @@ final class StatBreakdownView {
         lore.add(Component.empty().decoration(TextDecoration.ITALIC, false));
         wrap("This is the base value of this stat which everyone starts off with.", 40)
             .forEach(line -> lore.add(Component.text(line, NamedTextColor.DARK_GRAY).decoration(TextDecoration.ITALIC, false)));
-        MenuDisplayItem item = MenuDisplayItem.builder(Material.PLAYER_HEAD)
+        return MenuDisplayItem.builder(Material.PLAYER_HEAD)
+            .cached("stat-base:" + player.getUniqueId() + ":" + statId.value(), displayBase)
             .name(toLegacy(color) + (icon.isBlank() ? "" : icon + " ") + "Base Value")
             .secondary("&8Innate")
             .lore(lore.toArray(new Component[0]))
+            .skullOwner(player.getUniqueId())
             .build();
-        ItemStack stack = item.getDisplayItem();
-        ItemMeta meta = stack.getItemMeta();
-        if (meta instanceof SkullMeta skullMeta) {
-            skullMeta.setOwningPlayer(plugin.getServer().getOfflinePlayer(player.getUniqueId()));
-            stack.setItemMeta(skullMeta);
-            item.setDisplayItem(stack);
-        }
-        return item;
     }
 
     private sh.harold.fulcrum.api.menu.component.MenuItem buildSourceMenuItem(Player player, StatDefinition definition, SourceEntry entry, StatViewState state) {
@@ -6,8 +6,6 @@ import sh.harold.fulcrum.plugin.playerdata.LevelProgress;
 import sh.harold.fulcrum.plugin.playerdata.LevelTier;
 import sh.harold.fulcrum.plugin.playerdata.PlayerLevelingService;
 
-import java.time.Duration;
-import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,16 +18,21 @@ import java.util.logging.Logger;
 public final class PlayerInfoScoreboardModule implements ScoreboardModule {
 
     private static final String MODULE_ID = "player_info";
-    private static final Duration STALE_AFTER = Duration.ofSeconds(10);
 
     private final PlayerLevelingService levelingService;
     private final Logger logger;
-    private final Map<UUID, CachedLevel> levels = new ConcurrentHashMap<>();
+    private final ScoreboardInvalidator invalidator;
+    private final Map<UUID, Integer> levels = new ConcurrentHashMap<>();
     private final Map<UUID, CompletableFuture<LevelProgress>> inflight = new ConcurrentHashMap<>();
 
     public PlayerInfoScoreboardModule(PlayerLevelingService levelingService, Logger logger) {
+        this(levelingService, logger, ScoreboardInvalidator.NONE);
+    }
+
+    PlayerInfoScoreboardModule(PlayerLevelingService levelingService, Logger logger, ScoreboardInvalidator invalidator) {
         this.levelingService = Objects.requireNonNull(levelingService, "levelingService");
         this.logger = Objects.requireNonNull(logger, "logger");
+        this.invalidator = Objects.requireNonNull(invalidator, "invalidator");
     }
 
     @Override
@@ -40,11 +43,11 @@ public final class PlayerInfoScoreboardModule implements ScoreboardModule {
     @Override
     public List<String> renderLines(Player player) {
         UUID playerId = player.getUniqueId();
-        CachedLevel cached = levels.get(playerId);
-        if (shouldRefresh(cached) && player.isOnline()) {
+        Integer cached = levels.get(playerId);
+        if (cached == null && player.isOnline()) {
             requestLevel(playerId);
         }
-        int level = cached == null ? 0 : cached.level();
+        int level = cached == null ? 0 : cached;
         String line = "&fLevel: " + levelLegacyColor(level) + level;
         return List.of(line);
     }
@@ -54,23 +57,23 @@ public final class PlayerInfoScoreboardModule implements ScoreboardModule {
         inflight.remove(playerId);
     }
 
-    private boolean shouldRefresh(CachedLevel cached) {
-        if (cached == null) {
-            return true;
+    void pushLevel(UUID playerId, int level) {
+        Integer previous = levels.put(playerId, level);
+        if (previous == null || previous != level) {
+            invalidator.invalidate(playerId);
         }
-        return cached.isStale(STALE_AFTER);
     }
 
     private void requestLevel(UUID playerId) {
         inflight.computeIfAbsent(playerId, ignored -> levelingService.loadProgress(playerId)
             .toCompletableFuture()
             .whenComplete((progress, throwable) -> {
+                inflight.remove(playerId);
                 if (progress != null) {
-                    levels.put(playerId, new CachedLevel(progress.level(), Instant.now()));
+                    pushLevel(playerId, progress.level());
                 } else if (throwable != null) {
                     logger.log(Level.FINE, "Failed to fetch level for " + playerId, throwable);
                 }
-                inflight.remove(playerId);
             }));
     }
 
@@ -105,11 +108,4 @@ public final class PlayerInfoScoreboardModule implements ScoreboardModule {
         }
         return resolved;
     }
-
-    private record CachedLevel(int level, Instant fetchedAt) {
-
-        boolean isStale(Duration ttl) {
-            return fetchedAt.plus(ttl).isBefore(Instant.now());
-        }
-    }
 }
@@ -17,6 +17,7 @@ import sh.harold.fulcrum.common.loader.ModuleDescriptor;
 import sh.harold.fulcrum.common.loader.ModuleId;
 import sh.harold.fulcrum.plugin.config.FeatureConfigService;
 import sh.harold.fulcrum.plugin.economy.EconomyModule;
+import sh.harold.fulcrum.plugin.economy.EconomyService;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDataModule;
 import sh.harold.fulcrum.plugin.playerdata.PlayerLevelingService;
 import sh.harold.fulcrum.plugin.playerdata.PlayerSettingsService;
@@ -28,16 +29,19 @@ import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.OptionalInt;
 import java.util.logging.Level;
 
-public final class ScoreboardFeature implements FulcrumModule, ConfigurableModule, Listener {
+public final class ScoreboardFeature implements FulcrumModule, ConfigurableModule, Listener, ScoreboardInvalidator {
 
     public static final String SCOREBOARD_ID = "default";
     private static final String DEFAULT_DATE_FORMAT = "MM/dd/yy";
-    private static final long REFRESH_PERIOD_TICKS = 80L;
+    private static final long REFRESH_PERIOD_TICKS = 20L;
 
     private final JavaPlugin plugin;
     private final ScoreboardService scoreboardService;
@@ -52,6 +56,14 @@ public final class ScoreboardFeature implements FulcrumModule, ConfigurableModul
     private PlayerInfoScoreboardModule playerInfoModule;
     private PlayerSettingsService playerSettingsService;
     private ShardBalanceScoreboardModule shardBalanceModule;
+    private PlayerLevelingService levelingService;
+    private PlayerLevelingService.LevelUpdateListener levelListener;
+    private EconomyService economyService;
+    private EconomyService.BalanceListener balanceListener;
+    private final Set<UUID> dirtyPlayers = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private volatile boolean allDirty;
+    private String lastHeader;
 
     public ScoreboardFeature(
         JavaPlugin plugin,
@@ -85,21 +97,16 @@ public final class ScoreboardFeature implements FulcrumModule, ConfigurableModul
 
         playerSettingsService = playerDataModule.playerSettingsService()
             .orElseThrow(() -> new IllegalStateException("PlayerSettingsService not available for scoreboard"));
-        PlayerLevelingService levelingService = playerDataModule.playerLevelingService()
+        levelingService = playerDataModule.playerLevelingService()
             .orElseThrow(() -> new IllegalStateException("PlayerLevelingService not available for scoreboard"));
-        playerInfoModule = new PlayerInfoScoreboardModule(levelingService, plugin.getLogger());
-        shardBalanceModule = new ShardBalanceScoreboardModule(
-            economyModule.economyService()
-                .orElseThrow(() -> new IllegalStateException("EconomyService not available for scoreboard")),
-            plugin.getLogger()
-        );
-        economyModule.economyService()
-            .ifPresent(service -> service.addBalanceListener((playerId, balance) -> {
-                shardBalanceModule.pushBalance(playerId, balance);
-                plugin.getServer().getScheduler().runTask(plugin, () -> {
-                    scoreboardService.refreshPlayerScoreboard(playerId);
-                });
-            }));
+        economyService = economyModule.economyService()
+            .orElseThrow(() -> new IllegalStateException("EconomyService not available for scoreboard"));
+        playerInfoModule = new PlayerInfoScoreboardModule(levelingService, plugin.getLogger(), this);
+        shardBalanceModule = new ShardBalanceScoreboardModule(economyService, plugin.getLogger(), this);
+        levelListener = (playerId, progress) -> playerInfoModule.pushLevel(playerId, progress.level());
+        levelingService.addListener(levelListener);
+        balanceListener = (playerId, balance) -> shardBalanceModule.pushBalance(playerId, balance);
+        economyService.addBalanceListener(balanceListener);
 
         registerScoreboardDefinition();
 
@@ -117,6 +124,15 @@ public final class ScoreboardFeature implements FulcrumModule, ConfigurableModul
             refreshTask.cancel();
             refreshTask = null;
         }
+        if (levelingService != null) {
+            levelingService.removeListener(levelListener);
+        }
+        if (economyService != null) {
+            economyService.removeBalanceListener(balanceListener);
+        }
+        dirtyPlayers.clear();
+        allDirty = false;
+        lastHeader = null;
         HandlerList.unregisterAll(this);
         plugin.getServer().getOnlinePlayers()
             .forEach(player -> {
@@ -163,6 +179,54 @@ public final class ScoreboardFeature implements FulcrumModule, ConfigurableModul
             playerInfoModule.clear(event.getPlayer().getUniqueId());
         }
         shardBalanceModule.clear(event.getPlayer().getUniqueId());
+        dirtyPlayers.remove(event.getPlayer().getUniqueId());
+    }
+
+    @Override
+    public void invalidate(UUID playerId) {
+        dirtyPlayers.add(playerId);
+        scheduleFlush();
+    }
+
+    @Override
+    public void invalidateAll() {
+        allDirty = true;
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (!plugin.isEnabled() || !flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            flushScheduled.set(false);
+            flushDirty();
+        });
+    }
+
+    /**
+     * Re-renders only players whose lines were invalidated, or everyone when the shared header changed.
+     */
+    private void flushDirty() {
+        String header = headerLine();
+        if (!header.equals(lastHeader)) {
+            lastHeader = header;
+            allDirty = true;
+        }
+        if (allDirty) {
+            allDirty = false;
+            dirtyPlayers.clear();
+            plugin.getServer().getOnlinePlayers()
+                .forEach(player -> scoreboardService.refreshPlayerScoreboard(player.getUniqueId()));
+            return;
+        }
+        if (dirtyPlayers.isEmpty()) {
+            return;
+        }
+        for (UUID playerId : Set.copyOf(dirtyPlayers)) {
+            dirtyPlayers.remove(playerId);
+            scoreboardService.refreshPlayerScoreboard(playerId);
+        }
     }
 
     private ScoreboardDefinition buildDefinition() {
@@ -188,10 +252,13 @@ public final class ScoreboardFeature implements FulcrumModule, ConfigurableModul
     }
 
     private void startRefreshTask() {
+        // Only time-driven content is checked here; data changes arrive through invalidate()
         refreshTask = plugin.getServer().getScheduler().runTaskTimer(
             plugin,
-            () -> plugin.getServer().getOnlinePlayers()
-                .forEach(player -> scoreboardService.refreshPlayerScoreboard(player.getUniqueId())),
+            () -> {
+                shardBalanceModule.expireDeltas();
+                flushDirty();
+            },
             REFRESH_PERIOD_TICKS,
             REFRESH_PERIOD_TICKS
         );
@@ -242,7 +309,7 @@ public final class ScoreboardFeature implements FulcrumModule, ConfigurableModul
         return trimmed;
     }
 
-    private void applyScoreboardVisibility(java.util.UUID playerId) {
+    private void applyScoreboardVisibility(UUID playerId) {
         playerSettingsService.isScoreboardEnabled(playerId)
             .whenComplete((enabled, throwable) -> {
                 if (throwable != null) {
@@ -0,0 +1,23 @@
+package sh.harold.fulcrum.plugin.scoreboard;
+
+import java.util.UUID;
+
+/**
+ * Lets scoreboard modules mark rendered lines as stale when their backing data changes.
+ */
+interface ScoreboardInvalidator {
+
+    ScoreboardInvalidator NONE = new ScoreboardInvalidator() {
+        @Override
+        public void invalidate(UUID playerId) {
+        }
+
+        @Override
+        public void invalidateAll() {
+        }
+    };
+
+    void invalidate(UUID playerId);
+
+    void invalidateAll();
+}
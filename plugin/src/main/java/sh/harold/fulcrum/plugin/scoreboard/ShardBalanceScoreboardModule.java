@@ -19,18 +19,23 @@ import java.util.logging.Logger;
 public final class ShardBalanceScoreboardModule implements ScoreboardModule {
 
     private static final String MODULE_ID = "shard_balance";
-    private static final Duration STALE_AFTER = Duration.ofSeconds(5);
     private static final Duration DELTA_TTL = Duration.ofSeconds(5);
 
     private final EconomyService economyService;
     private final Logger logger;
-    private final Map<UUID, CachedBalance> balances = new ConcurrentHashMap<>();
+    private final ScoreboardInvalidator invalidator;
+    private final Map<UUID, Long> balances = new ConcurrentHashMap<>();
     private final Map<UUID, CompletableFuture<BalanceSnapshot>> inflight = new ConcurrentHashMap<>();
     private final Map<UUID, BalanceDelta> deltas = new ConcurrentHashMap<>();
 
     public ShardBalanceScoreboardModule(EconomyService economyService, Logger logger) {
+        this(economyService, logger, ScoreboardInvalidator.NONE);
+    }
+
+    ShardBalanceScoreboardModule(EconomyService economyService, Logger logger, ScoreboardInvalidator invalidator) {
         this.economyService = Objects.requireNonNull(economyService, "economyService");
         this.logger = Objects.requireNonNull(logger, "logger");
+        this.invalidator = Objects.requireNonNull(invalidator, "invalidator");
     }
 
     @Override
@@ -41,12 +46,12 @@ public final class ShardBalanceScoreboardModule implements ScoreboardModule {
     @Override
     public List<String> renderLines(Player player) {
         UUID playerId = player.getUniqueId();
-        CachedBalance cached = balances.get(playerId);
-        if (shouldRefresh(cached) && player.isOnline()) {
+        Long cached = balances.get(playerId);
+        if (cached == null && player.isOnline()) {
             requestBalance(playerId);
         }
-        long shards = cached == null ? 0L : cached.amount();
-        BalanceDelta delta = deltaFor(playerId);
+        long shards = cached == null ? 0L : cached;
+        BalanceDelta delta = deltas.get(playerId);
         String line = " &fShards: &3" + shards;
         if (delta != null) {
             line += " " + formatDelta(delta.amount());
@@ -61,59 +66,40 @@ public final class ShardBalanceScoreboardModule implements ScoreboardModule {
     }
 
     void pushBalance(UUID playerId, long balance) {
-        balances.compute(playerId, (ignored, previous) -> {
-            long previousAmount = previous == null ? balance : previous.amount();
-            long delta = balance - previousAmount;
-            if (delta != 0) {
-                deltas.put(playerId, new BalanceDelta(delta, Instant.now()));
-            } else {
-                deltas.remove(playerId);
-            }
-            return new CachedBalance(balance, Instant.now());
-        });
+        Long previous = balances.put(playerId, balance);
+        long delta = previous == null ? 0L : balance - previous;
+        if (delta != 0) {
+            deltas.put(playerId, new BalanceDelta(delta, Instant.now()));
+        }
+        if (previous == null || delta != 0) {
+            invalidator.invalidate(playerId);
+        }
     }
 
-    private boolean shouldRefresh(CachedBalance cached) {
-        if (cached == null) {
-            return true;
-        }
-        return cached.isStale(STALE_AFTER);
+    /**
+     * Drops delta suffixes that have outlived their display window and invalidates those players.
+     */
+    void expireDeltas() {
+        deltas.forEach((playerId, delta) -> {
+            if (delta.isExpired(DELTA_TTL) && deltas.remove(playerId, delta)) {
+                invalidator.invalidate(playerId);
+            }
+        });
     }
 
     private void requestBalance(UUID playerId) {
         inflight.computeIfAbsent(playerId, ignored -> economyService.balance(playerId)
             .toCompletableFuture()
             .whenComplete((snapshot, throwable) -> {
+                inflight.remove(playerId);
                 if (snapshot != null) {
-                    balances.compute(playerId, (ignoredId, previous) -> {
-                        long previousAmount = previous == null ? snapshot.balance() : previous.amount();
-                        long delta = snapshot.balance() - previousAmount;
-                        if (delta != 0) {
-                            deltas.put(playerId, new BalanceDelta(delta, Instant.now()));
-                        } else {
-                            deltas.remove(playerId);
-                        }
-                        return new CachedBalance(snapshot.balance(), Instant.now());
-                    });
+                    pushBalance(playerId, snapshot.balance());
                 } else if (throwable != null) {
                     logger.log(Level.FINE, "Failed to fetch shard balance for " + playerId, throwable);
                 }
-                inflight.remove(playerId);
             }));
     }
 
-    private BalanceDelta deltaFor(UUID playerId) {
-        BalanceDelta delta = deltas.get(playerId);
-        if (delta == null) {
-            return null;
-        }
-        if (delta.isExpired(DELTA_TTL)) {
-            deltas.remove(playerId);
-            return null;
-        }
-        return delta;
-    }
-
     private String formatDelta(long delta) {
         String color = delta >= 0 ? "&b" : "&c";
         String sign = delta >= 0 ? "+" : "-";
@@ -121,13 +107,6 @@ public final class ShardBalanceScoreboardModule implements ScoreboardModule {
         return color + "(" + sign + magnitude + ")";
     }
 
-    private record CachedBalance(long amount, Instant fetchedAt) {
-
-        boolean isStale(Duration ttl) {
-            return fetchedAt.plus(ttl).isBefore(Instant.now());
-        }
-    }
-
     private record BalanceDelta(long amount, Instant recordedAt) {
 
         boolean isExpired(Duration ttl) {
@@ -23,7 +23,9 @@ import org.bukkit.inventory.PlayerInventory;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.common.data.Document;
 import sh.harold.fulcrum.common.data.DocumentCollection;
+import sh.harold.fulcrum.plugin.item.runtime.ItemBlobCodec;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDirectoryEntry;
+import sh.harold.fulcrum.plugin.playerdata.PlayerDocumentSections;
 
 import java.time.Instant;
 import java.time.ZoneId;
@@ -52,23 +54,28 @@ public final class OpenInventoryService implements Listener {
     private static final int ARMOR_AND_OFFHAND_SLOTS = 5;
     private static final int HOTBAR_SLOTS = 9;
     private static final int STORAGE_SLOTS = 27;
+    private static final int SNAPSHOT_SLOTS = ARMOR_AND_OFFHAND_SLOTS + HOTBAR_SLOTS + STORAGE_SLOTS;
     private static final int ARMOR_ROW_START = 0;
     private static final int SPACER_ROW_START = 9;
     private static final int HOTBAR_ROW_START = 18;
     private static final int STORAGE_ROW_START = 27;
     private static final ItemStack SPACER = spacerItem();
+    private static final int[] TARGET_SLOTS = targetSlots();
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd HH:mm:ss", Locale.ROOT)
         .withZone(ZoneId.systemDefault());
 
     private final JavaPlugin plugin;
     private final DocumentCollection players;
+    private final DocumentCollection snapshots;
     private final Logger logger;
     private final Map<UUID, LiveViewSession> liveViews = new ConcurrentHashMap<>();
+    private final Map<UUID, LiveTargetView> liveTargets = new ConcurrentHashMap<>();
 
     OpenInventoryService(JavaPlugin plugin, DataApi dataApi) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         Objects.requireNonNull(dataApi, "dataApi");
         this.players = dataApi.collection("players");
+        this.snapshots = PlayerDocumentSections.inventorySnapshots(dataApi);
         this.logger = plugin.getLogger();
     }
 
@@ -228,7 +235,7 @@ public final class OpenInventoryService implements Listener {
         InventorySnapshot snapshot = captureSnapshot(target);
         InventoryViewContext viewContext = new InventoryViewContext(target.getUniqueId(), snapshot, true);
         Inventory inventory = createInventory(viewContext);
-        fillInventory(inventory, snapshot);
+        placeSpacers(inventory);
         viewer.openInventory(inventory);
         registerLiveView(viewer, target, inventory);
         Component message = Component.text()
@@ -259,8 +266,7 @@ public final class OpenInventoryService implements Listener {
         setTargetItem(session.target, slot, cursor);
         event.setCursor(targetItem);
         event.getWhoClicked().setItemOnCursor(targetItem);
-        InventorySnapshot snapshot = captureSnapshot(session.target);
-        fillInventory(session.view, snapshot);
+        session.shared.sync();
     }
 
     private void handleShiftIntoTarget(InventoryClickEvent event, LiveViewSession session) {
@@ -278,8 +284,7 @@ public final class OpenInventoryService implements Listener {
             ItemStack remaining = leftover.values().stream().findFirst().orElse(null);
             viewerInventory.setItem(slot, remaining);
         }
-        InventorySnapshot snapshot = captureSnapshot(session.target);
-        fillInventory(session.view, snapshot);
+        session.shared.sync();
     }
 
     private boolean isSpacer(int slot) {
@@ -352,15 +357,7 @@ public final class OpenInventoryService implements Listener {
         for (int slot = 0; slot < VIEW_SIZE; slot++) {
             view.setItem(slot, null);
         }
-        for (int index = ARMOR_ROW_START; index < ARMOR_AND_OFFHAND_SLOTS; index++) {
-            view.setItem(index, SPACER);
-        }
-        for (int index = ARMOR_AND_OFFHAND_SLOTS; index < HOTBAR_SLOTS; index++) {
-            view.setItem(index, SPACER);
-        }
-        for (int index = SPACER_ROW_START; index < SPACER_ROW_START + HOTBAR_SLOTS; index++) {
-            view.setItem(index, SPACER);
-        }
+        placeSpacers(view);
         view.setItem(ARMOR_ROW_START, snapshot.helmet());
         view.setItem(ARMOR_ROW_START + 1, snapshot.chestplate());
         view.setItem(ARMOR_ROW_START + 2, snapshot.leggings());
@@ -377,6 +374,15 @@ public final class OpenInventoryService implements Listener {
         }
     }
 
+    private void placeSpacers(Inventory view) {
+        for (int index = ARMOR_AND_OFFHAND_SLOTS; index < HOTBAR_SLOTS; index++) {
+            view.setItem(index, SPACER);
+        }
+        for (int index = SPACER_ROW_START; index < SPACER_ROW_START + HOTBAR_SLOTS; index++) {
+            view.setItem(index, SPACER);
+        }
+    }
+
     private InventorySnapshot captureSnapshot(Player player) {
         Instant capturedAt = Instant.now();
         PlayerInventoryAccess inventory = new PlayerInventoryAccess(player);
@@ -396,8 +402,8 @@ public final class OpenInventoryService implements Listener {
     private void persistSnapshot(Player player) {
         InventorySnapshot snapshot = captureSnapshot(player);
         Map<String, Object> serialized = serialize(snapshot);
-        players.load(player.getUniqueId().toString())
-            .thenCompose(document -> document.set("inventory.snapshot", serialized))
+        snapshots.load(player.getUniqueId().toString())
+            .thenCompose(document -> document.set(PlayerDocumentSections.INVENTORY_SNAPSHOT_PATH, serialized))
             .exceptionally(throwable -> {
                 logger.log(Level.SEVERE, "Failed to persist inventory snapshot for " + player.getUniqueId(), throwable);
                 return null;
@@ -405,42 +411,23 @@ public final class OpenInventoryService implements Listener {
     }
 
     private Map<String, Object> serialize(InventorySnapshot snapshot) {
+        List<ItemStack> slots = new ArrayList<>(SNAPSHOT_SLOTS);
+        slots.add(snapshot.helmet());
+        slots.add(snapshot.chestplate());
+        slots.add(snapshot.leggings());
+        slots.add(snapshot.boots());
+        slots.add(snapshot.offhand());
+        slots.addAll(snapshot.hotbar());
+        slots.addAll(snapshot.storage());
         Map<String, Object> data = new LinkedHashMap<>();
         data.put("username", snapshot.username());
         data.put("capturedAt", snapshot.capturedAt().toString());
-        data.put("armor", serializeArmor(snapshot));
-        data.put("offhand", serializeItem(snapshot.offhand()));
-        data.put("hotbar", serializeItems(snapshot.hotbar()));
-        data.put("storage", serializeItems(snapshot.storage()));
+        data.put("items", ItemBlobCodec.encode(slots));
         return data;
     }
 
-    private List<Map<String, Object>> serializeArmor(InventorySnapshot snapshot) {
-        List<Map<String, Object>> armor = new ArrayList<>();
-        armor.add(serializeItem(snapshot.helmet()));
-        armor.add(serializeItem(snapshot.chestplate()));
-        armor.add(serializeItem(snapshot.leggings()));
-        armor.add(serializeItem(snapshot.boots()));
-        return armor;
-    }
-
-    private List<Map<String, Object>> serializeItems(List<ItemStack> items) {
-        List<Map<String, Object>> serialized = new ArrayList<>(items.size());
-        for (ItemStack item : items) {
-            serialized.add(serializeItem(item));
-        }
-        return serialized;
-    }
-
-    private Map<String, Object> serializeItem(ItemStack item) {
-        if (item == null || item.getType().isAir()) {
-            return null;
-        }
-        return new LinkedHashMap<>(item.clone().serialize());
-    }
-
     private CompletionStage<Optional<InventorySnapshot>> loadSnapshot(UUID targetId, String username) {
-        return players.load(targetId.toString())
+        return snapshots.load(targetId.toString())
             .thenApply(Document::snapshot)
             .thenApply(data -> parseSnapshot(data, username));
     }
@@ -451,9 +438,18 @@ public final class OpenInventoryService implements Listener {
         if (existing != null) {
             existing.cancel();
         }
-        LiveViewSession session = new LiveViewSession(viewer, target, inventory);
+        LiveTargetView shared = liveTargets.get(target.getUniqueId());
+        if (shared == null || shared.target != target) {
+            if (shared != null) {
+                shared.cancel();
+            }
+            shared = new LiveTargetView(target);
+            liveTargets.put(target.getUniqueId(), shared);
+            shared.start();
+        }
+        LiveViewSession session = new LiveViewSession(viewer, target, inventory, shared);
         liveViews.put(viewerId, session);
-        session.start();
+        shared.attach(session);
     }
 
     private void closeLiveViews(UUID viewerId, Component message) {
@@ -509,6 +505,10 @@ public final class OpenInventoryService implements Listener {
             .filter(name -> !name.isBlank())
             .orElse(fallbackUsername);
         Instant capturedAt = parseInstant(snapshotMap.get("capturedAt"));
+        if (snapshotMap.get("items") instanceof String blob) {
+            return parseBlobSnapshot(blob, username, capturedAt);
+        }
+        // Snapshots written before the blob format keep one ItemStack.serialize() map per slot.
         List<ItemStack> armor = parseArmor(snapshotMap.get("armor"));
         ItemStack offhand = parseItem(snapshotMap.get("offhand"));
         List<ItemStack> hotbar = parseItems(snapshotMap.get("hotbar"), HOTBAR_SLOTS);
@@ -529,6 +529,32 @@ public final class OpenInventoryService implements Listener {
         ));
     }
 
+    private Optional<InventorySnapshot> parseBlobSnapshot(String blob, String username, Instant capturedAt) {
+        List<ItemStack> slots;
+        try {
+            slots = ItemBlobCodec.decode(blob);
+        } catch (RuntimeException exception) {
+            logger.log(Level.WARNING, "Failed to decode stored inventory snapshot for " + username, exception);
+            return Optional.empty();
+        }
+        if (slots.size() < SNAPSHOT_SLOTS) {
+            return Optional.empty();
+        }
+        int hotbarStart = ARMOR_AND_OFFHAND_SLOTS;
+        int storageStart = hotbarStart + HOTBAR_SLOTS;
+        return Optional.of(new InventorySnapshot(
+            username,
+            slots.get(0),
+            slots.get(1),
+            slots.get(2),
+            slots.get(3),
+            slots.get(4),
+            slots.subList(hotbarStart, storageStart),
+            slots.subList(storageStart, storageStart + STORAGE_SLOTS),
+            capturedAt != null ? capturedAt : Instant.now()
+        ));
+    }
+
     private List<ItemStack> parseArmor(Object raw) {
         List<ItemStack> armor = parseItems(raw, 4);
         while (armor.size() < 4) {
@@ -598,6 +624,21 @@ public final class OpenInventoryService implements Listener {
         plugin.getServer().getScheduler().runTask(plugin, task);
     }
 
+    private static int[] targetSlots() {
+        int[] slots = new int[SNAPSHOT_SLOTS];
+        int index = 0;
+        for (int slot = ARMOR_ROW_START; slot < ARMOR_ROW_START + ARMOR_AND_OFFHAND_SLOTS; slot++) {
+            slots[index++] = slot;
+        }
+        for (int slot = HOTBAR_ROW_START; slot < HOTBAR_ROW_START + HOTBAR_SLOTS; slot++) {
+            slots[index++] = slot;
+        }
+        for (int slot = STORAGE_ROW_START; slot < STORAGE_ROW_START + STORAGE_SLOTS; slot++) {
+            slots[index++] = slot;
+        }
+        return slots;
+    }
+
     private static ItemStack spacerItem() {
         ItemStack spacer = new ItemStack(Material.LIGHT_GRAY_STAINED_GLASS_PANE);
         ItemMeta meta = spacer.getItemMeta();
@@ -667,24 +708,42 @@ public final class OpenInventoryService implements Listener {
         }
     }
 
-    private final class LiveViewSession implements Runnable {
-        private final Player viewer;
+    /**
+     * One capture loop per watched target; each pass diffs the target's slots against what was last pushed
+     * and only writes the slots that changed into every attached view.
+     */
+    private final class LiveTargetView implements Runnable {
         private final Player target;
-        private final Inventory view;
+        private final List<LiveViewSession> sessions = new ArrayList<>();
+        private final ItemStack[] lastItems = new ItemStack[VIEW_SIZE];
         private BukkitTask task;
 
-        private LiveViewSession(Player viewer, Player target, Inventory view) {
-            this.viewer = viewer;
+        private LiveTargetView(Player target) {
             this.target = target;
-            this.view = view;
         }
 
         private void start() {
-            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 0L, 10L);
+            for (int slot : TARGET_SLOTS) {
+                lastItems[slot] = cloneItem(getTargetItem(target, slot));
+            }
+            task = plugin.getServer().getScheduler().runTaskTimer(plugin, this, 10L, 10L);
         }
 
-        private boolean isLive() {
-            return task != null;
+        private void attach(LiveViewSession session) {
+            // Catch up first so a viewer joining between passes never starts from a stale capture
+            sync();
+            sessions.add(session);
+            for (int slot : TARGET_SLOTS) {
+                session.view.setItem(slot, lastItems[slot]);
+            }
+        }
+
+        private void detach(LiveViewSession session) {
+            sessions.remove(session);
+            if (sessions.isEmpty()) {
+                cancel();
+                liveTargets.remove(target.getUniqueId(), this);
+            }
         }
 
         private void cancel() {
@@ -694,24 +753,72 @@ public final class OpenInventoryService implements Listener {
             }
         }
 
+        private void sync() {
+            for (int slot : TARGET_SLOTS) {
+                ItemStack current = getTargetItem(target, slot);
+                if (Objects.equals(normalize(current), lastItems[slot])) {
+                    continue;
+                }
+                ItemStack copy = cloneItem(normalize(current));
+                lastItems[slot] = copy;
+                for (LiveViewSession session : sessions) {
+                    session.view.setItem(slot, copy);
+                }
+            }
+        }
+
+        private ItemStack normalize(ItemStack item) {
+            return item == null || item.getType().isAir() ? null : item;
+        }
+
         @Override
         public void run() {
-            if (!viewer.isOnline()) {
-                closeLiveViews(viewer.getUniqueId(), null);
-                return;
+            for (LiveViewSession session : List.copyOf(sessions)) {
+                Player viewer = session.viewer();
+                if (!viewer.isOnline()) {
+                    closeLiveViews(viewer.getUniqueId(), null);
+                    continue;
+                }
+                InventoryHolder currentHolder = viewer.getOpenInventory().getTopInventory().getHolder();
+                if (currentHolder != session.view.getHolder()) {
+                    closeLiveViews(viewer.getUniqueId(), null);
+                }
             }
-            InventoryHolder currentHolder = viewer.getOpenInventory().getTopInventory().getHolder();
-            if (currentHolder != view.getHolder()) {
-                closeLiveViews(viewer.getUniqueId(), null);
+            if (task == null) {
                 return;
             }
             if (!target.isOnline()) {
-                closeLiveViews(viewer.getUniqueId(), Component.text("Player went offline; view closed.", NamedTextColor.YELLOW));
-                viewer.closeInventory();
+                closeLiveViewsForTarget(target.getUniqueId(), Component.text("Player went offline; view closed.", NamedTextColor.YELLOW));
+                return;
+            }
+            sync();
+        }
+    }
+
+    private final class LiveViewSession {
+        private final Player viewer;
+        private final Player target;
+        private final Inventory view;
+        private final LiveTargetView shared;
+        private boolean live = true;
+
+        private LiveViewSession(Player viewer, Player target, Inventory view, LiveTargetView shared) {
+            this.viewer = viewer;
+            this.target = target;
+            this.view = view;
+            this.shared = shared;
+        }
+
+        private boolean isLive() {
+            return live;
+        }
+
+        private void cancel() {
+            if (!live) {
                 return;
             }
-            InventorySnapshot snapshot = captureSnapshot(target);
-            fillInventory(view, snapshot);
+            live = false;
+            shared.detach(this);
         }
 
         private Player viewer() {
@@ -3,6 +3,8 @@ package sh.harold.fulcrum.plugin.staff;
 import io.papermc.paper.command.brigadier.Commands;
 import io.papermc.paper.plugin.lifecycle.event.registrar.ReloadableRegistrarEvent;
 import io.papermc.paper.plugin.lifecycle.event.types.LifecycleEvents;
+import net.luckperms.api.event.EventSubscription;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import sh.harold.fulcrum.common.loader.FulcrumModule;
 import sh.harold.fulcrum.common.loader.ModuleCategory;
@@ -10,6 +12,7 @@ import sh.harold.fulcrum.common.loader.ModuleDescriptor;
 import sh.harold.fulcrum.common.loader.ModuleId;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.plugin.data.DataModule;
+import sh.harold.fulcrum.plugin.data.DocumentWriteQueue;
 import sh.harold.fulcrum.plugin.permissions.LuckPermsModule;
 import sh.harold.fulcrum.plugin.permissions.StaffGuard;
 import sh.harold.fulcrum.plugin.staff.command.OpenInventoryCommand;
@@ -43,6 +46,7 @@ public final class StaffCommandsModule implements FulcrumModule {
     private OpenInventoryService openInventoryService;
     private StaffCreativeService staffCreativeService;
     private PlayerLevelingService levelingService;
+    private EventSubscription<UserDataRecalculateEvent> staffStatusSubscription;
 
     public StaffCommandsModule(
         JavaPlugin plugin,
@@ -69,12 +73,20 @@ public final class StaffCommandsModule implements FulcrumModule {
     public CompletionStage<Void> enable() {
         staffGuard = new StaffGuard(luckPermsModule);
         DataApi dataApi = dataModule.dataApi().orElseThrow(() -> new IllegalStateException("DataApi not available"));
-        vanishService = new VanishService(plugin, staffGuard, dataApi);
+        DocumentWriteQueue playerWrites = dataModule.playerWrites()
+            .orElseThrow(() -> new IllegalStateException("Player write queue not available"));
+        vanishService = new VanishService(plugin, staffGuard, dataApi, playerWrites);
         openInventoryService = new OpenInventoryService(plugin, dataApi);
         staffCreativeService = new StaffCreativeService(plugin, staffGuard);
         levelingService = playerDataModule.playerLevelingService()
             .orElseThrow(() -> new IllegalStateException("PlayerLevelingService not available"));
         plugin.getServer().getPluginManager().registerEvents(vanishService, plugin);
+        vanishService.trackOnlineViewers();
+        VanishService vanish = vanishService;
+        staffStatusSubscription = luckPermsModule.luckPerms()
+            .map(luckPerms -> luckPerms.getEventBus().subscribe(plugin, UserDataRecalculateEvent.class,
+                event -> vanish.refreshStaffStatus(event.getUser().getUniqueId())))
+            .orElse(null);
         plugin.getServer().getPluginManager().registerEvents(staffCreativeService, plugin);
         openInventoryService.registerListeners();
         plugin.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, this::registerCommands);
@@ -83,6 +95,10 @@ public final class StaffCommandsModule implements FulcrumModule {
 
     @Override
     public CompletionStage<Void> disable() {
+        if (staffStatusSubscription != null) {
+            staffStatusSubscription.close();
+            staffStatusSubscription = null;
+        }
         if (vanishService != null) {
             vanishService.revealAll();
         }
@@ -14,6 +14,7 @@ import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.common.data.DocumentCollection;
+import sh.harold.fulcrum.plugin.data.DocumentWriteQueue;
 import sh.harold.fulcrum.plugin.permissions.StaffGuard;
 
 import java.time.Duration;
@@ -36,18 +37,47 @@ public final class VanishService implements Listener {
     private final JavaPlugin plugin;
     private final StaffGuard staffGuard;
     private final DocumentCollection players;
+    private final DocumentWriteQueue writes;
     private final Logger logger;
     private final Set<UUID> vanishedPlayers = ConcurrentHashMap.newKeySet();
     private final java.util.Map<UUID, CompletableFuture<Boolean>> vanishStateLoads = new ConcurrentHashMap<>();
     private final java.util.Map<UUID, BossBar> vanishBars = new ConcurrentHashMap<>();
+    private final java.util.Map<UUID, Player> staffViewers = new ConcurrentHashMap<>();
+    private final java.util.Map<UUID, Player> otherViewers = new ConcurrentHashMap<>();
 
-    public VanishService(JavaPlugin plugin, StaffGuard staffGuard, DataApi dataApi) {
+    public VanishService(JavaPlugin plugin, StaffGuard staffGuard, DataApi dataApi, DocumentWriteQueue writes) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.staffGuard = Objects.requireNonNull(staffGuard, "staffGuard");
         this.players = Objects.requireNonNull(dataApi, "dataApi").collection("players");
+        this.writes = Objects.requireNonNull(writes, "writes");
         this.logger = plugin.getLogger();
     }
 
+    public void trackOnlineViewers() {
+        for (Player viewer : plugin.getServer().getOnlinePlayers()) {
+            classify(viewer);
+        }
+    }
+
+    /**
+     * Re-checks a viewer's staff status after a permission change and fixes what they can see if it flipped.
+     */
+    public void refreshStaffStatus(UUID playerId) {
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            Player viewer = plugin.getServer().getPlayer(playerId);
+            if (viewer == null || !viewer.isOnline()) {
+                return;
+            }
+            boolean wasStaff = staffViewers.containsKey(playerId);
+            boolean known = wasStaff || otherViewers.containsKey(playerId);
+            boolean staff = classify(viewer);
+            if (known && staff == wasStaff) {
+                return;
+            }
+            applyVanishedTo(viewer, staff);
+        });
+    }
+
     public boolean isVanished(Player player) {
         return vanishedPlayers.contains(player.getUniqueId());
     }
@@ -95,7 +125,8 @@ public final class VanishService implements Listener {
         }
         long startedAt = System.nanoTime();
         logger.info(() -> "[login:data] loading vanish state for " + playerId);
-        CompletableFuture<Boolean> load = players.load(playerId.toString())
+        CompletableFuture<Boolean> load = writes.flush(playerId.toString())
+            .thenCompose(ignored -> players.load(playerId.toString()))
             .toCompletableFuture()
             .orTimeout(VANISH_STATE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
             .thenApply(document -> document.get(VANISH_PATH, Boolean.class).orElse(false));
@@ -118,43 +149,70 @@ public final class VanishService implements Listener {
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onJoin(PlayerJoinEvent event) {
         Player joining = event.getPlayer();
+        boolean staff = classify(joining);
         if (isVanished(joining)) {
             event.joinMessage(null);
             refreshVisibility(joining);
             joining.sendMessage(Component.text("You remain vanished; use /vanish off to reappear.", NamedTextColor.YELLOW));
             showVanishBar(joining);
         }
-        hideVanishedFrom(joining);
+        if (!staff && !vanishedPlayers.isEmpty()) {
+            applyVanishedTo(joining, false);
+        }
     }
 
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onQuit(PlayerQuitEvent event) {
-        vanishStateLoads.remove(event.getPlayer().getUniqueId());
+        UUID playerId = event.getPlayer().getUniqueId();
+        vanishStateLoads.remove(playerId);
+        staffViewers.remove(playerId);
+        otherViewers.remove(playerId);
         if (isVanished(event.getPlayer())) {
             event.quitMessage(null);
             hideVanishBar(event.getPlayer());
         }
     }
 
-    private void hideVanishedFrom(Player viewer) {
-        if (staffGuard.isStaff(viewer)) {
-            return;
+    private boolean classify(Player viewer) {
+        UUID viewerId = viewer.getUniqueId();
+        boolean staff = staffGuard.isStaff(viewer);
+        if (staff) {
+            otherViewers.remove(viewerId);
+            staffViewers.put(viewerId, viewer);
+        } else {
+            staffViewers.remove(viewerId);
+            otherViewers.put(viewerId, viewer);
         }
-        for (UUID vanishedId : Set.copyOf(vanishedPlayers)) {
+        return staff;
+    }
+
+    private void applyVanishedTo(Player viewer, boolean staff) {
+        for (UUID vanishedId : vanishedPlayers) {
+            if (vanishedId.equals(viewer.getUniqueId())) {
+                continue;
+            }
             Player vanished = plugin.getServer().getPlayer(vanishedId);
-            if (vanished != null && vanished.isOnline()) {
+            if (vanished == null) {
+                continue;
+            }
+            if (staff) {
+                viewer.showPlayer(plugin, vanished);
+            } else {
                 viewer.hidePlayer(plugin, vanished);
             }
         }
     }
 
+    /**
+     * Staff always see everyone, so only the non-staff partition needs touching when a target toggles.
+     */
     private void refreshVisibility(Player target) {
         boolean targetVanished = isVanished(target);
-        for (Player viewer : plugin.getServer().getOnlinePlayers()) {
+        for (Player viewer : otherViewers.values()) {
             if (viewer.equals(target)) {
                 continue;
             }
-            if (targetVanished && !staffGuard.isStaff(viewer)) {
+            if (targetVanished) {
                 viewer.hidePlayer(plugin, target);
             } else {
                 viewer.showPlayer(plugin, target);
@@ -172,14 +230,7 @@ public final class VanishService implements Listener {
     }
 
     private void persistVanishState(UUID playerId, boolean vanished) {
-        players.load(playerId.toString())
-            .thenCompose(document -> document.set(VANISH_PATH, vanished))
-            .toCompletableFuture()
-            .orTimeout(VANISH_STATE_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
-            .exceptionally(throwable -> {
-                logger.log(Level.SEVERE, "Failed to persist vanish state for " + playerId, throwable);
-                return null;
-            });
+        writes.set(playerId.toString(), VANISH_PATH, vanished);
     }
 
     private void applyHydratedState(UUID playerId, boolean vanished) {
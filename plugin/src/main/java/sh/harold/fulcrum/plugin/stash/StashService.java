@@ -7,6 +7,8 @@ import org.bukkit.plugin.java.JavaPlugin;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.common.data.Document;
 import sh.harold.fulcrum.common.data.DocumentCollection;
+import sh.harold.fulcrum.plugin.item.runtime.ItemBlobCodec;
+import sh.harold.fulcrum.plugin.playerdata.PlayerDocumentSections;
 
 import java.time.Duration;
 import java.util.ArrayList;
@@ -31,6 +33,7 @@ public final class StashService implements AutoCloseable {
 
     private static final Duration SYNC_TIMEOUT = Duration.ofSeconds(5);
     private static final String STASH_LABEL = "item";
+    private static final String STASH_PATH = PlayerDocumentSections.STASH_PATH;
     private static final Set<String> SUPPORTED_ITEM_KEYS = Set.of(
         "id",
         "count",
@@ -41,14 +44,14 @@ public final class StashService implements AutoCloseable {
     );
 
     private final JavaPlugin plugin;
-    private final DocumentCollection players;
+    private final DocumentCollection stashes;
     private final ExecutorService executor;
     private final Map<UUID, Lock> locks = new java.util.concurrent.ConcurrentHashMap<>();
     private final Logger logger;
 
     StashService(JavaPlugin plugin, DataApi dataApi) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
-        this.players = Objects.requireNonNull(dataApi, "dataApi").collection("players");
+        this.stashes = PlayerDocumentSections.stash(Objects.requireNonNull(dataApi, "dataApi"));
         this.executor = Executors.newVirtualThreadPerTaskExecutor();
         this.logger = plugin.getLogger();
     }
@@ -157,12 +160,22 @@ public final class StashService implements AutoCloseable {
     }
 
     private Document loadDocument(UUID playerId) {
-        return players.load(playerId.toString()).toCompletableFuture().join();
+        return stashes.load(playerId.toString()).toCompletableFuture().join();
     }
 
     private List<ItemStack> readItems(Document document) {
         List<ItemStack> items = new ArrayList<>();
-        List<?> raw = document.get("inventory.stash", List.class).orElse(List.of());
+        Object stored = document.get(STASH_PATH, Object.class).orElse(null);
+        if (stored instanceof String blob) {
+            for (ItemStack item : ItemBlobCodec.decode(blob)) {
+                if (item != null && item.getAmount() > 0) {
+                    items.add(item);
+                }
+            }
+            return items;
+        }
+        // Legacy stashes hold one ItemStack.serialize() map per entry; the next persist rewrites them as a blob.
+        List<?> raw = stored instanceof List<?> list ? list : List.of();
         for (Object entry : raw) {
             ItemStack item = deserialize(entry);
             if (item != null && item.getAmount() > 0) {
@@ -173,10 +186,7 @@ public final class StashService implements AutoCloseable {
     }
 
     private void persist(Document document, List<ItemStack> items) {
-        List<Map<String, Object>> serialized = items.stream()
-            .map(this::serialize)
-            .toList();
-        document.set("inventory.stash", serialized).toCompletableFuture().join();
+        document.set(STASH_PATH, ItemBlobCodec.encode(items)).toCompletableFuture().join();
     }
 
     private <T> CompletionStage<T> runLocked(UUID playerId, java.util.function.Supplier<T> task) {
@@ -215,10 +225,6 @@ public final class StashService implements AutoCloseable {
         return new OfferOutcome(inserted, remaining);
     }
 
-    private Map<String, Object> serialize(ItemStack item) {
-        return new java.util.LinkedHashMap<>(item.serialize());
-    }
-
     private ItemStack deserialize(Object raw) {
         if (!(raw instanceof Map<?, ?> map)) {
             return null;
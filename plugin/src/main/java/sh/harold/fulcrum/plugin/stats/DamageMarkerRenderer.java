@@ -1,22 +1,39 @@
 package sh.harold.fulcrum.plugin.stats;
 
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Location;
-import org.bukkit.World;
-import org.bukkit.entity.Display;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
-import org.bukkit.entity.TextDisplay;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.util.Vector;
+import org.bukkit.scheduler.BukkitTask;
+import sh.harold.fulcrum.plugin.packet.PacketEntityIds;
+import sh.harold.fulcrum.plugin.packet.PacketTextDisplay;
 import sh.harold.fulcrum.plugin.playerdata.PlayerSettingsService;
 
 import java.text.DecimalFormat;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
+/**
+ * Renders damage numbers as client-only text displays. Nothing is spawned in the world: spawn, drift and destroy
+ * packets are queued per viewer and flushed once per tick.
+ */
 final class DamageMarkerRenderer {
 
     private static final ThreadLocal<DecimalFormat> DAMAGE_FORMAT = ThreadLocal.withInitial(() -> {
@@ -28,47 +45,141 @@ final class DamageMarkerRenderer {
     private static final double HORIZONTAL_SPREAD = 0.45;
     private static final double VERTICAL_OFFSET_MIN = 0.35;
     private static final double VERTICAL_OFFSET_MAX = 0.85;
-    private static final double VELOCITY_SPREAD = 0.03;
-    private static final double BASE_RISE = 0.08;
+    private static final double DRIFT_SPREAD = 0.35;
+    private static final double BASE_RISE = 0.6;
+    private static final PacketTextDisplay.Style STYLE = PacketTextDisplay.Style.of(24.0f, false, false);
 
     private final Plugin plugin;
     private final PlayerSettingsService settingsService;
+    private final Map<UUID, List<PacketWrapper<?>>> pendingPackets = new HashMap<>();
+    private final Map<UUID, List<Integer>> pendingDestroys = new HashMap<>();
+    private final ArrayDeque<Marker> awaitingDrift = new ArrayDeque<>();
+    private final ArrayDeque<Marker> liveMarkers = new ArrayDeque<>();
+    private BukkitTask flushTask;
+    private long tick;
 
     DamageMarkerRenderer(Plugin plugin, PlayerSettingsService settingsService) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
         this.settingsService = Objects.requireNonNull(settingsService, "settingsService");
     }
 
+    void start() {
+        if (flushTask != null) {
+            return;
+        }
+        flushTask = plugin.getServer().getScheduler().runTaskTimer(plugin, this::flush, 1L, 1L);
+    }
+
+    void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        awaitingDrift.clear();
+        while (!liveMarkers.isEmpty()) {
+            queueDestroy(liveMarkers.poll());
+        }
+        sendPending();
+    }
+
     void render(Player attacker, LivingEntity defender, double damage, boolean critical) {
         if (damage <= 0.0 || attacker == null || defender == null) {
             return;
         }
+        if (flushTask == null) {
+            return;
+        }
         if (!settingsService.cachedDamageMarkersEnabled(attacker.getUniqueId())) {
             return;
         }
-        World world = defender.getWorld();
-        Location spawnLocation = offset(defender);
+        List<UUID> viewers = resolveViewers(attacker, defender);
+        if (viewers.isEmpty()) {
+            return;
+        }
+        int entityId = PacketEntityIds.next();
+        Vector3d position = offset(defender);
         Component text = buildText(damage, critical);
-        TextDisplay display = world.spawn(spawnLocation, TextDisplay.class, spawned -> {
-            spawned.setBillboard(Display.Billboard.CENTER);
-            spawned.setShadowed(false);
-            spawned.setSeeThrough(false);
-            spawned.setViewRange(24.0f);
-            spawned.setAlignment(TextDisplay.TextAlignment.CENTER);
-            spawned.text(text);
-            spawned.setGravity(false);
-            spawned.setVelocity(randomVelocity());
-        });
-        plugin.getServer().getScheduler().runTaskLater(plugin, display::remove, LIFETIME_TICKS);
+        for (UUID viewerId : viewers) {
+            List<PacketWrapper<?>> packets = pendingPackets.computeIfAbsent(viewerId, ignored -> new ArrayList<>());
+            packets.add(PacketTextDisplay.spawn(entityId, position));
+            packets.add(PacketTextDisplay.metadata(entityId, STYLE, text));
+        }
+        Marker marker = new Marker(entityId, viewers, randomDrift(), tick + LIFETIME_TICKS);
+        awaitingDrift.add(marker);
+        liveMarkers.add(marker);
     }
 
-    private Location offset(LivingEntity defender) {
+    private void flush() {
+        tick++;
+        // Interpolation only kicks in once the client has a baseline, so the drift goes out a tick after the spawn.
+        while (!awaitingDrift.isEmpty()) {
+            Marker marker = awaitingDrift.poll();
+            for (UUID viewerId : marker.viewers()) {
+                pendingPackets.computeIfAbsent(viewerId, ignored -> new ArrayList<>())
+                    .add(PacketTextDisplay.translate(marker.entityId(), marker.drift(), (int) LIFETIME_TICKS));
+            }
+        }
+        while (!liveMarkers.isEmpty() && liveMarkers.peek().expiresAt() <= tick) {
+            queueDestroy(liveMarkers.poll());
+        }
+        sendPending();
+    }
+
+    private void queueDestroy(Marker marker) {
+        for (UUID viewerId : marker.viewers()) {
+            pendingDestroys.computeIfAbsent(viewerId, ignored -> new ArrayList<>()).add(marker.entityId());
+        }
+    }
+
+    private void sendPending() {
+        if (pendingPackets.isEmpty() && pendingDestroys.isEmpty()) {
+            return;
+        }
+        Set<UUID> viewerIds = new LinkedHashSet<>(pendingPackets.keySet());
+        viewerIds.addAll(pendingDestroys.keySet());
+        for (UUID viewerId : viewerIds) {
+            List<PacketWrapper<?>> packets = pendingPackets.get(viewerId);
+            List<Integer> destroys = pendingDestroys.get(viewerId);
+            Player viewer = plugin.getServer().getPlayer(viewerId);
+            if (viewer == null || !viewer.isOnline()) {
+                continue;
+            }
+            User user = PacketEvents.getAPI().getPlayerManager().getUser(viewer);
+            if (user == null) {
+                continue;
+            }
+            if (packets != null) {
+                packets.forEach(user::writePacket);
+            }
+            if (destroys != null && !destroys.isEmpty()) {
+                user.writePacket(new WrapperPlayServerDestroyEntities(destroys.stream().mapToInt(Integer::intValue).toArray()));
+            }
+            user.flushPackets();
+        }
+        pendingPackets.clear();
+        pendingDestroys.clear();
+    }
+
+    private List<UUID> resolveViewers(Player attacker, LivingEntity defender) {
+        Set<UUID> viewers = new LinkedHashSet<>();
+        viewers.add(attacker.getUniqueId());
+        if (defender instanceof Player defendingPlayer) {
+            viewers.add(defendingPlayer.getUniqueId());
+        }
+        for (Player tracker : defender.getTrackedBy()) {
+            viewers.add(tracker.getUniqueId());
+        }
+        return List.copyOf(viewers);
+    }
+
+    private Vector3d offset(LivingEntity defender) {
         ThreadLocalRandom random = ThreadLocalRandom.current();
         double xOffset = (random.nextDouble() * 2.0 - 1.0) * HORIZONTAL_SPREAD;
         double zOffset = (random.nextDouble() * 2.0 - 1.0) * HORIZONTAL_SPREAD;
         double vertical = defender.getHeight() * 0.45 + VERTICAL_OFFSET_MIN
             + random.nextDouble() * (VERTICAL_OFFSET_MAX - VERTICAL_OFFSET_MIN);
-        return defender.getLocation().clone().add(xOffset, vertical, zOffset);
+        Location location = defender.getLocation();
+        return new Vector3d(location.getX() + xOffset, location.getY() + vertical, location.getZ() + zOffset);
     }
 
     private Component buildText(double damage, boolean critical) {
@@ -80,11 +191,14 @@ final class DamageMarkerRenderer {
         return base.decoration(TextDecoration.ITALIC, false);
     }
 
-    private Vector randomVelocity() {
+    private Vector3f randomDrift() {
         ThreadLocalRandom random = ThreadLocalRandom.current();
-        double x = (random.nextDouble() - 0.5) * VELOCITY_SPREAD;
-        double z = (random.nextDouble() - 0.5) * VELOCITY_SPREAD;
-        double y = BASE_RISE + random.nextDouble() * VELOCITY_SPREAD;
-        return new Vector(x, y, z);
+        float x = (float) ((random.nextDouble() - 0.5) * DRIFT_SPREAD);
+        float z = (float) ((random.nextDouble() - 0.5) * DRIFT_SPREAD);
+        float y = (float) (BASE_RISE + random.nextDouble() * DRIFT_SPREAD);
+        return new Vector3f(x, y, z);
+    }
+
+    private record Marker(int entityId, List<UUID> viewers, Vector3f drift, long expiresAt) {
     }
 }
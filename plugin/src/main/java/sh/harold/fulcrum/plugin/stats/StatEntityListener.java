@@ -1,14 +1,18 @@
 package sh.harold.fulcrum.plugin.stats;
 
-import com.destroystokyo.paper.event.entity.EntityAddToWorldEvent;
 import com.destroystokyo.paper.event.entity.EntityRemoveFromWorldEvent;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import sh.harold.fulcrum.stats.service.EntityKey;
 import sh.harold.fulcrum.stats.service.StatService;
 
+/**
+ * Containers are created lazily on first stat access; removal only flags them for the periodic sweep in
+ * {@link StatsModule}.
+ */
 public final class StatEntityListener implements Listener {
 
     private final StatService statService;
@@ -17,20 +21,11 @@ public final class StatEntityListener implements Listener {
         this.statService = statService;
     }
 
-    @EventHandler
-    public void onEntityAdd(EntityAddToWorldEvent event) {
-        Entity entity = event.getEntity();
-        if (!(entity instanceof LivingEntity living)) {
-            return;
-        }
-        statService.getContainer(EntityKey.fromUuid(living.getUniqueId()));
-    }
-
-    @EventHandler
+    @EventHandler(priority = EventPriority.MONITOR)
     public void onEntityRemove(EntityRemoveFromWorldEvent event) {
         Entity entity = event.getEntity();
         if (entity instanceof LivingEntity living) {
-            statService.removeContainer(EntityKey.fromUuid(living.getUniqueId()));
+            statService.releaseContainer(EntityKey.fromUuid(living.getUniqueId()));
         }
     }
 
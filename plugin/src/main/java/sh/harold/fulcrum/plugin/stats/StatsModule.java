@@ -1,8 +1,10 @@
 package sh.harold.fulcrum.plugin.stats;
 
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.event.HandlerList;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
+import org.bukkit.scheduler.BukkitTask;
 import sh.harold.fulcrum.common.loader.ConfigurableModule;
 import sh.harold.fulcrum.common.loader.FulcrumModule;
 import sh.harold.fulcrum.common.loader.ModuleCategory;
@@ -24,6 +26,8 @@ import java.util.concurrent.CompletionStage;
 
 public final class StatsModule implements FulcrumModule, ConfigurableModule {
 
+    private static final long CONTAINER_SWEEP_PERIOD_TICKS = 600L;
+
     private final JavaPlugin plugin;
     private final PlayerDataModule playerDataModule;
     private FeatureConfigService configService;
@@ -39,6 +43,8 @@ public final class StatsModule implements FulcrumModule, ConfigurableModule {
     private StatEntityListener statEntityListener;
     private StatDamageListener statDamageListener;
     private MovementSpeedListener movementSpeedListener;
+    private StatEntityResolver entityResolver;
+    private BukkitTask containerSweepTask;
     private volatile ItemResolver itemResolver;
 
     public StatsModule(JavaPlugin plugin, PlayerDataModule playerDataModule) {
@@ -56,21 +62,37 @@ public final class StatsModule implements FulcrumModule, ConfigurableModule {
         configService = new FeatureConfigService(plugin);
         statRegistry = StatRegistry.withDefaults();
         statService = new StatService(statRegistry);
+        entityResolver = new StatEntityResolver(plugin.getServer());
         statSourceContextRegistry = new StatSourceContextRegistry();
         bindingManager = new StatBindingManager();
         playerSettingsService = playerDataModule.playerSettingsService()
             .orElseThrow(() -> new IllegalStateException("PlayerSettingsService not available for stats"));
         damageMarkerRenderer = new DamageMarkerRenderer(plugin, playerSettingsService);
+        damageMarkerRenderer.start();
         refreshConfiguration(loadMappingConfig());
+        containerSweepTask = plugin.getServer().getScheduler().runTaskTimer(
+            plugin,
+            this::sweepContainers,
+            CONTAINER_SWEEP_PERIOD_TICKS,
+            CONTAINER_SWEEP_PERIOD_TICKS
+        );
         return CompletableFuture.completedFuture(null);
     }
 
     @Override
     public CompletionStage<Void> disable() {
+        if (containerSweepTask != null) {
+            containerSweepTask.cancel();
+            containerSweepTask = null;
+        }
         if (statService != null && bindingManager != null) {
             statService.removeListener(bindingManager);
         }
         unregisterListeners();
+        if (damageMarkerRenderer != null) {
+            damageMarkerRenderer.stop();
+            damageMarkerRenderer = null;
+        }
         if (configService != null) {
             configService.close();
         }
@@ -125,7 +147,6 @@ public final class StatsModule implements FulcrumModule, ConfigurableModule {
         }
 
         bindingManager = new StatBindingManager();
-        StatEntityResolver entityResolver = new StatEntityResolver(plugin.getServer());
         bindingManager.registerBinding(new MaxHealthStatBinding(entityResolver));
         bindingManager.registerBinding(new sh.harold.fulcrum.plugin.stats.binding.AttackSpeedStatBinding(entityResolver));
         if (mappingConfig.mirrorArmorAttributes()) {
@@ -169,6 +190,11 @@ public final class StatsModule implements FulcrumModule, ConfigurableModule {
         }
     }
 
+    private void sweepContainers() {
+        // Entities that came back (world change, chunk reload) keep their container and modifiers.
+        statService.sweepReleased(key -> entityResolver.findLiving(key).filter(LivingEntity::isValid).isPresent());
+    }
+
     private StatMappingConfig loadMappingConfig() {
         return StatMappingConfig.from(configService.load(StatMappingConfig.CONFIG_DEFINITION));
     }
@@ -8,6 +8,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 import org.bukkit.scheduler.BukkitTask;
 import sh.harold.fulcrum.common.loader.ConfigurableModule;
@@ -17,8 +18,11 @@ import sh.harold.fulcrum.common.loader.ModuleDescriptor;
 import sh.harold.fulcrum.common.loader.ModuleId;
 import sh.harold.fulcrum.plugin.config.FeatureConfigService;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 
@@ -33,6 +37,11 @@ public final class TabFeature implements FulcrumModule, ConfigurableModule, List
     private FeatureConfigService configService;
     private TabConfig config;
     private BukkitTask refreshTask;
+    private final Map<UUID, TabContent> lastSent = new HashMap<>();
+    private String headerText;
+    private String footerText;
+    private Component header;
+    private Component footer;
 
     public TabFeature(JavaPlugin plugin) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
@@ -61,6 +70,9 @@ public final class TabFeature implements FulcrumModule, ConfigurableModule, List
         }
         HandlerList.unregisterAll(this);
         plugin.getServer().getOnlinePlayers().forEach(this::clearTab);
+        lastSent.clear();
+        headerText = null;
+        footerText = null;
         if (configService != null) {
             configService.close();
         }
@@ -83,6 +95,11 @@ public final class TabFeature implements FulcrumModule, ConfigurableModule, List
         sendTab(event.getPlayer());
     }
 
+    @EventHandler
+    public void onQuit(PlayerQuitEvent event) {
+        lastSent.remove(event.getPlayer().getUniqueId());
+    }
+
     private void startRefreshTask() {
         refreshTask = plugin.getServer().getScheduler()
             .runTaskTimer(plugin, this::refreshTabs, 1L, REFRESH_PERIOD_TICKS);
@@ -90,13 +107,22 @@ public final class TabFeature implements FulcrumModule, ConfigurableModule, List
 
     private void refreshTabs() {
         TabContent content = composeContent();
-        plugin.getServer().getOnlinePlayers()
-            .forEach(player -> player.sendPlayerListHeaderAndFooter(content.header(), content.footer()));
+        plugin.getServer().getOnlinePlayers().forEach(player -> sendIfChanged(player, content));
     }
 
     private void sendTab(Player player) {
-        TabContent content = composeContent();
+        lastSent.remove(player.getUniqueId());
+        sendIfChanged(player, composeContent());
+    }
+
+    private void sendIfChanged(Player player, TabContent content) {
+        // Components are reused while their text is unchanged, so identity is enough to skip a resend
+        TabContent previous = lastSent.get(player.getUniqueId());
+        if (previous != null && previous.header() == content.header() && previous.footer() == content.footer()) {
+            return;
+        }
         player.sendPlayerListHeaderAndFooter(content.header(), content.footer());
+        lastSent.put(player.getUniqueId(), content);
     }
 
     private void clearTab(Player player) {
@@ -104,11 +130,19 @@ public final class TabFeature implements FulcrumModule, ConfigurableModule, List
     }
 
     private TabContent composeContent() {
-        Component header = Component.text(PADDING + resolveServerName() + PADDING, NamedTextColor.AQUA)
-            .decoration(TextDecoration.ITALIC, false);
+        String serverName = resolveServerName();
+        if (header == null || !serverName.equals(headerText)) {
+            headerText = serverName;
+            header = Component.text(PADDING + serverName + PADDING, NamedTextColor.AQUA)
+                .decoration(TextDecoration.ITALIC, false);
+        }
 
-        Component footer = Component.text(PADDING + "TPS " + formatTps(currentTps()) + PADDING, NamedTextColor.GREEN)
-            .decoration(TextDecoration.ITALIC, false);
+        String tps = formatTps(currentTps());
+        if (footer == null || !tps.equals(footerText)) {
+            footerText = tps;
+            footer = Component.text(PADDING + "TPS " + tps + PADDING, NamedTextColor.GREEN)
+                .decoration(TextDecoration.ITALIC, false);
+        }
 
         return new TabContent(header, footer);
     }
@@ -10,11 +10,13 @@ import sh.harold.fulcrum.plugin.playerdata.PlayerDirectoryEntry;
 import sh.harold.fulcrum.plugin.playerdata.PlayerDirectoryService;
 
 import java.util.Comparator;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -25,6 +27,7 @@ public final class ChatCosmeticPrefixService {
     private final Supplier<Optional<CosmeticRegistry>> cosmeticRegistrySupplier;
     private final Supplier<Optional<PlayerDirectoryService>> playerDirectoryServiceSupplier;
     private final Logger logger;
+    private final Map<UUID, ResolvedPrefix> resolved = new ConcurrentHashMap<>();
 
     private static final Component OSU_OPEN = Component.text("[", NamedTextColor.DARK_GRAY).decoration(TextDecoration.ITALIC, false);
     private static final Component OSU_CLOSE = Component.text("]", NamedTextColor.DARK_GRAY).decoration(TextDecoration.ITALIC, false);
@@ -62,6 +65,10 @@ public final class ChatCosmeticPrefixService {
         UnlockableService unlockables = unlockableService.get();
         CosmeticRegistry cosmetics = cosmeticRegistry.get();
         PlayerDirectoryService directory = directoryService.orElse(null);
+        Component memoized = memoized(playerId, unlockables.cachedState(playerId).orElse(null));
+        if (memoized != null) {
+            return CompletableFuture.completedFuture(memoized);
+        }
         CompletionStage<PlayerUnlockableState> stateStage = unlockables.cachedState(playerId)
             .<CompletionStage<PlayerUnlockableState>>map(CompletableFuture::completedFuture)
             .orElseGet(() -> unlockables.loadState(playerId));
@@ -89,11 +96,34 @@ public final class ChatCosmeticPrefixService {
         if (cached == null) {
             return Component.empty();
         }
+        Component memoized = memoized(playerId, cached);
+        if (memoized != null) {
+            return memoized;
+        }
         PlayerDirectoryService directory = directoryService.orElse(null);
         CosmeticRegistry cosmetics = cosmeticRegistry.get();
         return resolveFromCached(playerId, cached, cosmetics, directory);
     }
 
+    public void forget(UUID playerId) {
+        if (playerId != null) {
+            resolved.remove(playerId);
+        }
+    }
+
+    private Component memoized(UUID playerId, PlayerUnlockableState state) {
+        ResolvedPrefix memo = resolved.get(playerId);
+        // Unlockable state is replaced on every change, so identity doubles as the version
+        return memo != null && state != null && memo.state() == state ? memo.prefix() : null;
+    }
+
+    private Component remember(UUID playerId, PlayerUnlockableState state, Cosmetic cosmetic, Component prefix) {
+        if (state != null && !(cosmetic instanceof OsuRankChatPrefixCosmetic)) {
+            resolved.put(playerId, new ResolvedPrefix(state, prefix));
+        }
+        return prefix;
+    }
+
     public static Component combinePrefixes(Component leading, Component trailing) {
         Component left = leading == null ? Component.empty() : leading;
         Component right = trailing == null ? Component.empty() : trailing;
@@ -119,9 +149,12 @@ public final class ChatCosmeticPrefixService {
         if (state == null) {
             return CompletableFuture.completedFuture(Component.empty());
         }
-        return equippedPrefixCosmetic(state, cosmeticRegistry)
-            .map(cosmetic -> resolveCosmetic(playerId, cosmetic, directoryService))
-            .orElseGet(() -> CompletableFuture.completedFuture(Component.empty()));
+        Cosmetic cosmetic = equippedPrefixCosmetic(state, cosmeticRegistry).orElse(null);
+        if (cosmetic == null) {
+            return CompletableFuture.completedFuture(remember(playerId, state, null, Component.empty()));
+        }
+        return resolveCosmetic(playerId, cosmetic, directoryService)
+            .thenApply(prefix -> remember(playerId, state, cosmetic, prefix));
     }
 
     private Component resolveFromCached(
@@ -130,9 +163,11 @@ public final class ChatCosmeticPrefixService {
         CosmeticRegistry cosmeticRegistry,
         PlayerDirectoryService directoryService
     ) {
-        return equippedPrefixCosmetic(state, cosmeticRegistry)
-            .map(cosmetic -> resolveCosmeticCached(playerId, cosmetic, directoryService))
-            .orElse(Component.empty());
+        Cosmetic cosmetic = equippedPrefixCosmetic(state, cosmeticRegistry).orElse(null);
+        if (cosmetic == null) {
+            return remember(playerId, state, null, Component.empty());
+        }
+        return remember(playerId, state, cosmetic, resolveCosmeticCached(playerId, cosmetic, directoryService));
     }
 
     private Optional<Cosmetic> equippedPrefixCosmetic(PlayerUnlockableState state, CosmeticRegistry cosmeticRegistry) {
@@ -217,6 +252,9 @@ public final class ChatCosmeticPrefixService {
             .build();
     }
 
+    private record ResolvedPrefix(PlayerUnlockableState state, Component prefix) {
+    }
+
     private enum OsuRankTier {
         LUSTROUS(100, RankStyle.gradient("#FFE600", "#ED82FF")),
         RADIANT(1_663, RankStyle.gradient("#97DCFF", "#ED82FF")),
@@ -23,10 +23,12 @@ final class CrawlManager {
     private static final double HOP_EXTRA_OFFSET = 0.6;
     private static final double HOP_VELOCITY = 0.42;
     private static final int HOP_TICKS = 6;
+    private static final double MOVE_EPSILON_SQUARED = 0.001;
 
     private final JavaPlugin plugin;
     private final Logger logger;
     private final Map<UUID, CrawlSession> sessions = new HashMap<>();
+    private BukkitTask ticker;
 
     CrawlManager(JavaPlugin plugin, Logger logger) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
@@ -56,8 +58,10 @@ final class CrawlManager {
         }
         applyCrawlPose(player);
         nudgePlayerDown(player);
-        BukkitTask task = plugin.getServer().getScheduler().runTaskTimer(plugin, () -> tick(player, helper), 0L, FOLLOW_INTERVAL_TICKS);
-        sessions.put(playerId, new CrawlSession(helper, task));
+        CrawlSession session = new CrawlSession(player, helper);
+        session.moved(helper.getLocation());
+        sessions.put(playerId, session);
+        ensureTicker();
         return true;
     }
 
@@ -75,25 +79,45 @@ final class CrawlManager {
             return;
         }
         session.setHopTicks(HOP_TICKS);
-        session.helper().teleport(helperLocation(player, HEAD_OFFSET + HOP_EXTRA_OFFSET));
+        Location target = helperLocation(player, HEAD_OFFSET + HOP_EXTRA_OFFSET);
+        session.helper().teleport(target);
+        session.moved(target);
         applyCrawlPose(player);
         applyHopVelocity(player);
     }
 
     void stopAll() {
         new ArrayList<>(sessions.keySet()).forEach(this::stop);
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
     }
 
     boolean isCrawling(UUID playerId) {
         return sessions.containsKey(playerId);
     }
 
-    private void tick(Player player, Shulker helper) {
-        CrawlSession session = sessions.get(player.getUniqueId());
-        if (session == null) {
-            stop(player);
+    private void ensureTicker() {
+        if (ticker == null) {
+            ticker = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tickAll, 0L, FOLLOW_INTERVAL_TICKS);
+        }
+    }
+
+    private void tickAll() {
+        if (sessions.isEmpty()) {
+            ticker.cancel();
+            ticker = null;
             return;
         }
+        for (CrawlSession session : new ArrayList<>(sessions.values())) {
+            tick(session);
+        }
+    }
+
+    private void tick(CrawlSession session) {
+        Player player = session.player();
+        Shulker helper = session.helper();
         if (!player.isOnline() || player.isDead() || player.isInsideVehicle() || player.isFlying() || player.isGliding()) {
             stop(player);
             return;
@@ -112,10 +136,13 @@ final class CrawlManager {
             session.decrementHopTicks();
         }
         Location target = helperLocation(player, offset);
-        if (helper.getLocation().distanceSquared(target) > 0.001) {
+        if (session.hasMoved(target)) {
             helper.teleport(target);
+            session.moved(target);
+        }
+        if (player.getPose() != Pose.SWIMMING || !player.isSwimming() || player.isSprinting()) {
+            applyCrawlPose(player);
         }
-        applyCrawlPose(player);
     }
 
     private Shulker spawnHelper(Player player) {
@@ -139,7 +166,6 @@ final class CrawlManager {
     private void stop(UUID playerId, Player player) {
         CrawlSession session = sessions.remove(playerId);
         if (session != null) {
-            session.followTask().cancel();
             Shulker helper = session.helper();
             if (!helper.isDead()) {
                 helper.remove();
@@ -202,21 +228,37 @@ final class CrawlManager {
     }
 
     private static final class CrawlSession {
+        private final Player player;
         private final Shulker helper;
-        private final BukkitTask followTask;
         private int hopTicks;
+        private double lastX;
+        private double lastY;
+        private double lastZ;
 
-        private CrawlSession(Shulker helper, BukkitTask followTask) {
+        private CrawlSession(Player player, Shulker helper) {
+            this.player = player;
             this.helper = helper;
-            this.followTask = followTask;
+        }
+
+        Player player() {
+            return player;
         }
 
         Shulker helper() {
             return helper;
         }
 
-        BukkitTask followTask() {
-            return followTask;
+        boolean hasMoved(Location location) {
+            double dx = location.getX() - lastX;
+            double dy = location.getY() - lastY;
+            double dz = location.getZ() - lastZ;
+            return dx * dx + dy * dy + dz * dz > MOVE_EPSILON_SQUARED;
+        }
+
+        void moved(Location location) {
+            lastX = location.getX();
+            lastY = location.getY();
+            lastZ = location.getZ();
         }
 
         int hopTicks() {
@@ -3,13 +3,13 @@ package sh.harold.fulcrum.plugin.unlockable;
 import org.bukkit.entity.Player;
 
 import java.util.Objects;
-import java.util.function.Consumer;
+import java.util.function.BiConsumer;
 
-public record ParticleTrailCosmetic(UnlockableDefinition definition, Consumer<Player> executor) implements Cosmetic {
+public record ParticleTrailCosmetic(UnlockableDefinition definition, BiConsumer<Player, TrailEmitter> pattern) implements Cosmetic {
 
     public ParticleTrailCosmetic {
         Objects.requireNonNull(definition, "definition");
-        Objects.requireNonNull(executor, "executor");
+        Objects.requireNonNull(pattern, "pattern");
         if (definition.type() != UnlockableType.COSMETIC) {
             throw new IllegalArgumentException("Particle trails must be cosmetics: " + definition.id());
         }
@@ -20,8 +20,9 @@ public record ParticleTrailCosmetic(UnlockableDefinition definition, Consumer<Pl
         return CosmeticSection.PARTICLE_TRAIL;
     }
 
-    public void execute(Player player) {
+    public void emit(Player player, TrailEmitter emitter) {
         Objects.requireNonNull(player, "player");
-        executor.accept(player);
+        Objects.requireNonNull(emitter, "emitter");
+        pattern.accept(player, emitter);
     }
 }
@@ -0,0 +1,206 @@
+package sh.harold.fulcrum.plugin.unlockable;
+
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.protocol.particle.type.ParticleType;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerParticle;
+import io.github.retrooper.packetevents.util.SpigotConversionUtil;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerMoveEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.Vector;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Emits equipped particle trails for every wearer from one ticker.
+ * Wearers only emit after they moved; each emit tick is capped per chunk, culled per viewer by visibility of the
+ * wearer, distance and facing, and written to each viewer as one flushed batch of particle packets.
+ */
+final class ParticleTrailEngine implements Listener {
+
+    private static final long EMIT_INTERVAL_TICKS = 2L;
+    private static final int MAX_PARTICLES_PER_CHUNK = 64;
+    private static final double VIEW_DISTANCE_SQUARED = 32.0 * 32.0;
+    private static final double ALWAYS_VISIBLE_DISTANCE_SQUARED = 6.0 * 6.0;
+    private static final double MIN_FACING_DOT = -0.2;
+
+    private final Plugin plugin;
+    private final UnlockableService unlockableService;
+    private final CosmeticRegistry cosmeticRegistry;
+    private final Logger logger;
+    private final Set<UUID> movedWearers = new LinkedHashSet<>();
+    private final Map<Particle, com.github.retrooper.packetevents.protocol.particle.Particle<?>> particles = new EnumMap<>(Particle.class);
+    private BukkitTask ticker;
+
+    ParticleTrailEngine(Plugin plugin, UnlockableService unlockableService, CosmeticRegistry cosmeticRegistry, Logger logger) {
+        this.plugin = Objects.requireNonNull(plugin, "plugin");
+        this.unlockableService = Objects.requireNonNull(unlockableService, "unlockableService");
+        this.cosmeticRegistry = Objects.requireNonNull(cosmeticRegistry, "cosmeticRegistry");
+        this.logger = Objects.requireNonNull(logger, "logger");
+    }
+
+    void start() {
+        if (ticker == null) {
+            ticker = plugin.getServer().getScheduler().runTaskTimer(plugin, this::tick, EMIT_INTERVAL_TICKS, EMIT_INTERVAL_TICKS);
+        }
+    }
+
+    void shutdown() {
+        if (ticker != null) {
+            ticker.cancel();
+            ticker = null;
+        }
+        movedWearers.clear();
+    }
+
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onMove(PlayerMoveEvent event) {
+        if (event.hasChangedPosition()) {
+            movedWearers.add(event.getPlayer().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        movedWearers.remove(event.getPlayer().getUniqueId());
+    }
+
+    private void tick() {
+        if (movedWearers.isEmpty()) {
+            return;
+        }
+        Map<World, Batch> batches = new HashMap<>();
+        for (UUID wearerId : movedWearers) {
+            Player wearer = plugin.getServer().getPlayer(wearerId);
+            if (wearer == null || wearer.isDead() || wearer.getGameMode() == GameMode.SPECTATOR || wearer.isInvisible()) {
+                continue;
+            }
+            equippedTrail(wearerId).ifPresent(trail -> {
+                Batch batch = batches.computeIfAbsent(wearer.getWorld(), ignored -> new Batch());
+                batch.wearer = wearer;
+                try {
+                    trail.emit(wearer, batch);
+                } catch (RuntimeException exception) {
+                    logger.log(Level.WARNING, "Particle trail " + trail.id().value() + " failed for " + wearerId, exception);
+                }
+            });
+        }
+        movedWearers.clear();
+        batches.forEach(this::send);
+    }
+
+    private Optional<ParticleTrailCosmetic> equippedTrail(UUID playerId) {
+        return unlockableService.cachedState(playerId)
+            .flatMap(state -> state.equippedCosmetics(CosmeticSection.PARTICLE_TRAIL).stream().findFirst())
+            .flatMap(cosmeticRegistry::cosmetic)
+            .filter(ParticleTrailCosmetic.class::isInstance)
+            .map(ParticleTrailCosmetic.class::cast);
+    }
+
+    private void send(World world, Batch batch) {
+        if (batch.emissions.isEmpty()) {
+            return;
+        }
+        for (Player viewer : world.getPlayers()) {
+            User user = PacketEvents.getAPI().getPlayerManager().getUser(viewer);
+            if (user == null) {
+                continue;
+            }
+            Location eye = viewer.getEyeLocation();
+            double eyeX = eye.getX();
+            double eyeY = eye.getY();
+            double eyeZ = eye.getZ();
+            Vector facing = eye.getDirection();
+            boolean written = false;
+            for (Emission emission : batch.emissions) {
+                if (!viewer.canSee(emission.wearer)) {
+                    continue;
+                }
+                double dx = emission.x - eyeX;
+                double dy = emission.y - eyeY;
+                double dz = emission.z - eyeZ;
+                double distanceSquared = dx * dx + dy * dy + dz * dz;
+                if (distanceSquared > VIEW_DISTANCE_SQUARED) {
+                    continue;
+                }
+                if (distanceSquared > ALWAYS_VISIBLE_DISTANCE_SQUARED) {
+                    double dot = (facing.getX() * dx + facing.getY() * dy + facing.getZ() * dz) / Math.sqrt(distanceSquared);
+                    if (dot < MIN_FACING_DOT) {
+                        continue;
+                    }
+                }
+                user.writePacket(emission.packet);
+                written = true;
+            }
+            if (written) {
+                user.flushPackets();
+            }
+        }
+    }
+
+    private com.github.retrooper.packetevents.protocol.particle.Particle<?> packetParticle(Particle particle) {
+        return particles.computeIfAbsent(particle, key -> {
+            if (key.getDataType() != Void.class) {
+                throw new IllegalArgumentException("Trail particles cannot carry data: " + key);
+            }
+            ParticleType<?> type = SpigotConversionUtil.fromBukkitParticle(key);
+            return new com.github.retrooper.packetevents.protocol.particle.Particle<>(type);
+        });
+    }
+
+    private final class Batch implements TrailEmitter {
+        private final List<Emission> emissions = new ArrayList<>();
+        private final Map<Long, Integer> chunkCounts = new HashMap<>();
+        private Player wearer;
+
+        @Override
+        public void particle(Particle particle, double x, double y, double z, int count, double spread, double speed) {
+            Objects.requireNonNull(particle, "particle");
+            if (count <= 0) {
+                return;
+            }
+            long chunkKey = ((long) ((int) Math.floor(x) >> 4) << 32) | (((int) Math.floor(z) >> 4) & 0xFFFFFFFFL);
+            int used = chunkCounts.getOrDefault(chunkKey, 0);
+            int allowed = Math.min(count, MAX_PARTICLES_PER_CHUNK - used);
+            if (allowed <= 0) {
+                return;
+            }
+            chunkCounts.put(chunkKey, used + allowed);
+            WrapperPlayServerParticle packet = new WrapperPlayServerParticle(
+                packetParticle(particle),
+                false,
+                new Vector3d(x, y, z),
+                new Vector3f((float) spread, (float) spread, (float) spread),
+                (float) speed,
+                allowed
+            );
+            emissions.add(new Emission(wearer, packet, x, y, z));
+        }
+    }
+
+    private record Emission(Player wearer, WrapperPlayServerParticle packet, double x, double y, double z) {
+    }
+}
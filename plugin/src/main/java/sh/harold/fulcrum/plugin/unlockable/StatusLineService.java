@@ -1,26 +1,45 @@
 package sh.harold.fulcrum.plugin.unlockable;
 
+import com.github.retrooper.packetevents.PacketEvents;
+import com.github.retrooper.packetevents.event.PacketListenerAbstract;
+import com.github.retrooper.packetevents.event.PacketSendEvent;
+import com.github.retrooper.packetevents.protocol.packettype.PacketType;
+import com.github.retrooper.packetevents.protocol.player.User;
+import com.github.retrooper.packetevents.util.Vector3d;
+import com.github.retrooper.packetevents.util.Vector3f;
+import com.github.retrooper.packetevents.wrapper.PacketWrapper;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerDestroyEntities;
+import com.github.retrooper.packetevents.wrapper.play.server.WrapperPlayServerSetPassengers;
+import io.papermc.paper.event.player.PlayerTrackEntityEvent;
+import io.papermc.paper.event.player.PlayerUntrackEntityEvent;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.TextDecoration;
-import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
-import org.bukkit.entity.Display;
 import org.bukkit.entity.Entity;
 import org.bukkit.entity.Player;
 import org.bukkit.entity.TextDisplay;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerKickEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
 import org.bukkit.plugin.Plugin;
-import org.bukkit.scheduler.BukkitTask;
+import sh.harold.fulcrum.plugin.packet.PacketEntityIds;
+import sh.harold.fulcrum.plugin.packet.PacketTextDisplay;
 import sh.harold.fulcrum.plugin.permissions.LuckPermsTextFormat;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
@@ -30,13 +49,19 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+/**
+ * Shows the equipped status cosmetic as a client-side text display riding each player.
+ * Labels are only touched when the owner's unlockable state changes or a viewer starts tracking the owner.
+ */
 public final class StatusLineService implements Listener {
 
-    private static final long REFRESH_INTERVAL_TICKS = 40L;
     private static final float LABEL_SCALE = 0.85f;
     private static final float STATUS_LABEL_OFFSET_Y = 0.5f;
     private static final float LABEL_VIEW_RANGE = 48.0f;
     private static final String LABEL_TYPE = "status-line";
+    private static final PacketTextDisplay.Style LABEL_STYLE = PacketTextDisplay.Style.of(LABEL_VIEW_RANGE, true, false)
+        .withTranslation(new Vector3f(0.0f, STATUS_LABEL_OFFSET_Y, 0.0f))
+        .withScale(LABEL_SCALE);
 
     private final Plugin plugin;
     private final UnlockableService unlockableService;
@@ -44,10 +69,15 @@ public final class StatusLineService implements Listener {
     private final Logger logger;
     private final NamespacedKey labelOwnerKey;
     private final NamespacedKey labelTypeKey;
-    private final Map<UUID, UUID> labelsByOwner = new ConcurrentHashMap<>();
-    private final Map<UUID, String> lastStatus = new ConcurrentHashMap<>();
+    private final Map<UUID, Label> labels = new ConcurrentHashMap<>();
+    private final Map<Integer, Label> labelsByVehicleId = new ConcurrentHashMap<>();
     private final Set<UUID> pendingLoads = ConcurrentHashMap.newKeySet();
-    private BukkitTask refreshTask;
+    private final Set<Label> pendingLabels = new LinkedHashSet<>();
+    private final Map<UUID, List<PacketWrapper<?>>> pendingPackets = new HashMap<>();
+    private final PassengerPacketListener passengerListener = new PassengerPacketListener();
+    private final UnlockableService.StateListener stateListener = this::handleStateUpdated;
+    private boolean flushScheduled;
+    private boolean started;
 
     public StatusLineService(
         Plugin plugin,
@@ -65,19 +95,26 @@ public final class StatusLineService implements Listener {
 
     public void start() {
         cleanupLoadedLabels();
-        refreshOnline();
-        refreshTask = plugin.getServer().getScheduler()
-            .runTaskTimer(plugin, this::refreshOnline, 20L, REFRESH_INTERVAL_TICKS);
+        PacketEvents.getAPI().getEventManager().registerListener(passengerListener);
+        unlockableService.addListener(stateListener);
+        started = true;
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            refresh(player);
+        }
     }
 
     public void shutdown() {
-        if (refreshTask != null) {
-            refreshTask.cancel();
-            refreshTask = null;
+        if (started) {
+            started = false;
+            unlockableService.removeListener(stateListener);
+            PacketEvents.getAPI().getEventManager().unregisterListener(passengerListener);
+        }
+        for (Label label : List.copyOf(labels.values())) {
+            dropLabel(label);
         }
+        sendPending();
         cleanupLoadedLabels();
-        labelsByOwner.clear();
-        lastStatus.clear();
+        pendingLabels.clear();
         pendingLoads.clear();
     }
 
@@ -96,12 +133,46 @@ public final class StatusLineService implements Listener {
         clear(event.getPlayer());
     }
 
-    private void refreshOnline() {
-        for (Player player : plugin.getServer().getOnlinePlayers()) {
-            refresh(player);
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onTrack(PlayerTrackEntityEvent event) {
+        if (!(event.getEntity() instanceof Player owner)) {
+            return;
+        }
+        Label label = labels.get(owner.getUniqueId());
+        if (label != null) {
+            // Tracking fires before the owner's spawn packet, so mounting waits for the next flush.
+            label.pendingViewers.add(event.getPlayer().getUniqueId());
+            markPending(label);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onUntrack(PlayerUntrackEntityEvent event) {
+        if (!(event.getEntity() instanceof Player owner)) {
+            return;
+        }
+        Label label = labels.get(owner.getUniqueId());
+        if (label == null) {
+            return;
+        }
+        UUID viewerId = event.getPlayer().getUniqueId();
+        label.pendingViewers.remove(viewerId);
+        if (label.viewers.remove(viewerId)) {
+            queue(viewerId, new WrapperPlayServerDestroyEntities(label.entityId));
+            scheduleFlush();
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onRespawn(PlayerRespawnEvent event) {
+        remountSelf(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        remountSelf(event.getPlayer());
+    }
+
     private void refresh(Player player) {
         if (player == null || !player.isOnline()) {
             return;
@@ -115,19 +186,28 @@ public final class StatusLineService implements Listener {
         if (!pendingLoads.add(playerId)) {
             return;
         }
+        // The loaded state reaches applyState through the state listener.
         unlockableService.loadState(playerId).whenComplete((state, throwable) -> {
             pendingLoads.remove(playerId);
             if (throwable != null) {
                 logger.log(Level.WARNING, "Failed to resolve status line for " + playerId, throwable);
+            }
+        });
+    }
+
+    private void handleStateUpdated(UUID playerId, PlayerUnlockableState state) {
+        if (!plugin.isEnabled()) {
+            return;
+        }
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            if (!started) {
+                return;
+            }
+            Player target = plugin.getServer().getPlayer(playerId);
+            if (target == null || !target.isOnline()) {
                 return;
             }
-            plugin.getServer().getScheduler().runTask(plugin, () -> {
-                Player target = plugin.getServer().getPlayer(playerId);
-                if (target == null || !target.isOnline()) {
-                    return;
-                }
-                applyState(target, state);
-            });
+            applyState(target, state);
         });
     }
 
@@ -140,23 +220,35 @@ public final class StatusLineService implements Listener {
             clear(player);
             return;
         }
-        StatusCosmetic cosmetic = equipped.get();
-        String status = cosmetic.status();
+        String status = equipped.get().status();
         UUID playerId = player.getUniqueId();
-        TextDisplay display = findLabel(player);
-        if (display != null && Objects.equals(lastStatus.get(playerId), status)) {
-            return;
+        Label label = labels.get(playerId);
+        if (label != null && label.owner != player) {
+            dropLabel(label);
+            label = null;
         }
-        if (display == null) {
-            display = spawnLabel(player);
-            if (display == null) {
-                return;
-            }
+        if (label != null && Objects.equals(label.status, status)) {
+            return;
         }
         Component rendered = LuckPermsTextFormat.deserializePrefix(status)
             .decoration(TextDecoration.ITALIC, false);
-        display.text(rendered);
-        lastStatus.put(playerId, status);
+        if (label == null) {
+            label = new Label(player, PacketEntityIds.next(), status, rendered);
+            labels.put(playerId, label);
+            labelsByVehicleId.put(label.vehicleId, label);
+            label.pendingViewers.add(playerId);
+            for (Player viewer : player.getTrackedBy()) {
+                label.pendingViewers.add(viewer.getUniqueId());
+            }
+            markPending(label);
+            return;
+        }
+        label.status = status;
+        label.text = rendered;
+        for (UUID viewerId : label.viewers) {
+            queue(viewerId, PacketTextDisplay.text(label.entityId, rendered));
+        }
+        scheduleFlush();
     }
 
     private Optional<StatusCosmetic> equippedStatus(PlayerUnlockableState state) {
@@ -178,126 +270,196 @@ public final class StatusLineService implements Listener {
         if (player == null) {
             return;
         }
-        removeLabel(player);
-        lastStatus.remove(player.getUniqueId());
+        UUID playerId = player.getUniqueId();
+        Label label = labels.get(playerId);
+        if (label != null) {
+            dropLabel(label);
+        }
+        pendingPackets.remove(playerId);
+        for (Label other : labels.values()) {
+            other.viewers.remove(playerId);
+            other.pendingViewers.remove(playerId);
+        }
+        scheduleFlush();
     }
 
-    private void cleanupLoadedLabels() {
-        for (var world : plugin.getServer().getWorlds()) {
-            for (TextDisplay display : world.getEntitiesByClass(TextDisplay.class)) {
-                cleanupLabelEntity(display);
-            }
+    private void remountSelf(Player player) {
+        Label label = labels.get(player.getUniqueId());
+        if (label == null) {
+            return;
         }
+        // The client drops every entity on respawn or world change, including its own label.
+        label.viewers.remove(player.getUniqueId());
+        label.pendingViewers.add(player.getUniqueId());
+        markPending(label);
     }
 
-    private boolean cleanupLabelEntity(Entity entity) {
-        if (!(entity instanceof TextDisplay display)) {
-            return false;
+    private void dropLabel(Label label) {
+        labels.remove(label.owner.getUniqueId(), label);
+        labelsByVehicleId.remove(label.vehicleId, label);
+        pendingLabels.remove(label);
+        int[] vanilla = vanillaPassengers(label.owner);
+        for (UUID viewerId : label.viewers) {
+            queue(viewerId, new WrapperPlayServerDestroyEntities(label.entityId));
+            queue(viewerId, new WrapperPlayServerSetPassengers(label.vehicleId, vanilla));
         }
-        PersistentDataContainer container = display.getPersistentDataContainer();
-        String ownerRaw = container.get(labelOwnerKey, PersistentDataType.STRING);
-        String labelType = container.get(labelTypeKey, PersistentDataType.STRING);
-        if (ownerRaw == null || ownerRaw.isBlank() || !LABEL_TYPE.equals(labelType)) {
-            return false;
-        }
-        try {
-            UUID ownerId = UUID.fromString(ownerRaw);
-            labelsByOwner.remove(ownerId, display.getUniqueId());
-            lastStatus.remove(ownerId);
-        } catch (IllegalArgumentException ignored) {
+        label.viewers.clear();
+        label.pendingViewers.clear();
+        scheduleFlush();
+    }
+
+    private void markPending(Label label) {
+        pendingLabels.add(label);
+        scheduleFlush();
+    }
+
+    private void scheduleFlush() {
+        if (flushScheduled || !plugin.isEnabled()) {
+            return;
         }
-        display.remove();
-        return true;
+        flushScheduled = true;
+        plugin.getServer().getScheduler().runTask(plugin, () -> {
+            flushScheduled = false;
+            flush();
+        });
     }
 
-    private TextDisplay findLabel(Player owner) {
-        UUID ownerId = owner.getUniqueId();
-        UUID existingId = labelsByOwner.get(ownerId);
-        if (existingId != null) {
-            Entity resolved = Bukkit.getEntity(existingId);
-            if (resolved instanceof TextDisplay display && display.isValid()) {
-                applyLabelDefaults(display);
-                return display;
+    private void flush() {
+        if (!pendingLabels.isEmpty()) {
+            List<Label> snapshot = new ArrayList<>(pendingLabels);
+            pendingLabels.clear();
+            for (Label label : snapshot) {
+                mountPending(label);
             }
-            labelsByOwner.remove(ownerId);
         }
+        sendPending();
+    }
 
-        for (Entity passenger : owner.getPassengers()) {
-            if (passenger instanceof TextDisplay display && isOwnedLabel(display, ownerId)) {
-                applyLabelDefaults(display);
-                labelsByOwner.put(ownerId, display.getUniqueId());
-                return display;
-            }
+    private void mountPending(Label label) {
+        Player owner = label.owner;
+        if (!owner.isOnline() || label.pendingViewers.isEmpty()) {
+            label.pendingViewers.clear();
+            return;
         }
+        Location location = owner.getLocation();
+        Vector3d position = new Vector3d(location.getX(), location.getY() + owner.getHeight(), location.getZ());
+        int[] passengers = withLabel(vanillaPassengers(owner), label.entityId);
+        for (UUID viewerId : label.pendingViewers) {
+            queue(viewerId, PacketTextDisplay.spawn(label.entityId, position));
+            queue(viewerId, PacketTextDisplay.metadata(label.entityId, LABEL_STYLE, label.text));
+            queue(viewerId, new WrapperPlayServerSetPassengers(label.vehicleId, passengers));
+            label.viewers.add(viewerId);
+        }
+        label.pendingViewers.clear();
+    }
 
-        return null;
+    private int[] vanillaPassengers(Player owner) {
+        return owner.getPassengers().stream()
+            .mapToInt(Entity::getEntityId)
+            .toArray();
     }
 
-    private TextDisplay spawnLabel(Player owner) {
-        UUID ownerId = owner.getUniqueId();
-        TextDisplay created = owner.getWorld().spawn(owner.getLocation(), TextDisplay.class, display -> {
-            applyLabelDefaults(display);
-            PersistentDataContainer container = display.getPersistentDataContainer();
-            container.set(labelOwnerKey, PersistentDataType.STRING, ownerId.toString());
-            container.set(labelTypeKey, PersistentDataType.STRING, LABEL_TYPE);
-        });
+    private static int[] withLabel(int[] passengers, int labelId) {
+        for (int passenger : passengers) {
+            if (passenger == labelId) {
+                return passengers;
+            }
+        }
+        int[] merged = Arrays.copyOf(passengers, passengers.length + 1);
+        merged[passengers.length] = labelId;
+        return merged;
+    }
 
-        owner.addPassenger(created);
-        labelsByOwner.put(ownerId, created.getUniqueId());
-        return created;
+    private void queue(UUID viewerId, PacketWrapper<?> packet) {
+        pendingPackets.computeIfAbsent(viewerId, ignored -> new ArrayList<>()).add(packet);
     }
 
-    private void removeLabel(Player owner) {
-        if (owner == null) {
+    private void sendPending() {
+        if (pendingPackets.isEmpty()) {
             return;
         }
-        UUID ownerId = owner.getUniqueId();
-        UUID labelId = labelsByOwner.remove(ownerId);
-        if (labelId != null) {
-            Entity resolved = Bukkit.getEntity(labelId);
-            if (resolved != null) {
-                resolved.remove();
+        for (Map.Entry<UUID, List<PacketWrapper<?>>> entry : pendingPackets.entrySet()) {
+            Player viewer = plugin.getServer().getPlayer(entry.getKey());
+            if (viewer == null || !viewer.isOnline()) {
+                continue;
+            }
+            User user = PacketEvents.getAPI().getPlayerManager().getUser(viewer);
+            if (user == null) {
+                continue;
             }
+            entry.getValue().forEach(user::writePacket);
+            user.flushPackets();
         }
-        for (Entity passenger : owner.getPassengers()) {
-            if (passenger instanceof TextDisplay display && isOwnedLabel(display, ownerId)) {
-                display.remove();
+        pendingPackets.clear();
+    }
+
+    private void cleanupLoadedLabels() {
+        for (var world : plugin.getServer().getWorlds()) {
+            for (TextDisplay display : world.getEntitiesByClass(TextDisplay.class)) {
+                cleanupLabelEntity(display);
             }
         }
     }
 
-    private boolean isOwnedLabel(TextDisplay display, UUID ownerId) {
+    /**
+     * Removes label entities spawned by builds that still used real passenger displays.
+     */
+    private boolean cleanupLabelEntity(Entity entity) {
+        if (!(entity instanceof TextDisplay display)) {
+            return false;
+        }
         PersistentDataContainer container = display.getPersistentDataContainer();
-        String storedOwner = container.get(labelOwnerKey, PersistentDataType.STRING);
-        String storedType = container.get(labelTypeKey, PersistentDataType.STRING);
-        return ownerId.toString().equals(storedOwner) && LABEL_TYPE.equals(storedType);
+        String ownerRaw = container.get(labelOwnerKey, PersistentDataType.STRING);
+        String labelType = container.get(labelTypeKey, PersistentDataType.STRING);
+        if (ownerRaw == null || ownerRaw.isBlank() || !LABEL_TYPE.equals(labelType)) {
+            return false;
+        }
+        display.remove();
+        return true;
     }
 
-    private void applyLabelDefaults(TextDisplay display) {
-        display.setBillboard(Display.Billboard.CENTER);
-        display.setDefaultBackground(false);
-        display.setShadowed(true);
-        display.setSeeThrough(false);
-        display.setGravity(false);
-        display.setPersistent(false);
-        display.setTextOpacity((byte) 0xFF);
-        display.setAlignment(TextDisplay.TextAlignment.CENTER);
-        display.setViewRange(LABEL_VIEW_RANGE);
-        applyDefaultTransform(display);
+    private static final class Label {
+        private final Player owner;
+        private final int vehicleId;
+        private final int entityId;
+        private final Set<UUID> viewers = ConcurrentHashMap.newKeySet();
+        private final Set<UUID> pendingViewers = new LinkedHashSet<>();
+        private String status;
+        private volatile Component text;
+
+        private Label(Player owner, int entityId, String status, Component text) {
+            this.owner = owner;
+            this.vehicleId = owner.getEntityId();
+            this.entityId = entityId;
+            this.status = status;
+            this.text = text;
+        }
     }
 
-    private void applyDefaultTransform(TextDisplay display) {
-        org.bukkit.util.Transformation current = display.getTransformation();
-        if (current == null) {
-            return;
+    private final class PassengerPacketListener extends PacketListenerAbstract {
+        @Override
+        public void onPacketSend(PacketSendEvent event) {
+            if (event.getPacketType() != PacketType.Play.Server.SET_PASSENGERS) {
+                return;
+            }
+            WrapperPlayServerSetPassengers packet = new WrapperPlayServerSetPassengers(event);
+            Label label = labelsByVehicleId.get(packet.getEntityId());
+            if (label == null) {
+                return;
+            }
+            Object handle = event.getPlayer();
+            if (!(handle instanceof Player viewer)) {
+                return;
+            }
+            // Vanilla passenger updates would otherwise unmount the label for viewers that already have it.
+            if (!label.viewers.contains(viewer.getUniqueId())) {
+                return;
+            }
+            int[] passengers = packet.getPassengers() == null ? new int[0] : packet.getPassengers();
+            int[] merged = withLabel(passengers, label.entityId);
+            if (merged != passengers) {
+                packet.setPassengers(merged);
+            }
         }
-        org.joml.Vector3f translation = new org.joml.Vector3f(0.0f, STATUS_LABEL_OFFSET_Y, 0.0f);
-        org.joml.Vector3f scale = new org.joml.Vector3f(LABEL_SCALE, LABEL_SCALE, LABEL_SCALE);
-        display.setTransformation(new org.bukkit.util.Transformation(
-            translation,
-            current.getLeftRotation(),
-            scale,
-            current.getRightRotation()
-        ));
     }
 }
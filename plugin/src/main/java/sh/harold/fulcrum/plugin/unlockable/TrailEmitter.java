@@ -0,0 +1,12 @@
+package sh.harold.fulcrum.plugin.unlockable;
+
+import org.bukkit.Particle;
+
+/**
+ * Collects the particles a trail wants to show this emit tick. Only particles without extra data are supported.
+ */
+@FunctionalInterface
+public interface TrailEmitter {
+
+    void particle(Particle particle, double x, double y, double z, int count, double spread, double speed);
+}
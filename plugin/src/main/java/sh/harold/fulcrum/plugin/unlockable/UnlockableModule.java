@@ -13,6 +13,7 @@ import sh.harold.fulcrum.common.loader.ModuleId;
 import sh.harold.fulcrum.common.cooldown.CooldownRegistry;
 import sh.harold.fulcrum.common.cooldown.InMemoryCooldownRegistry;
 import sh.harold.fulcrum.plugin.data.DataModule;
+import sh.harold.fulcrum.plugin.data.DocumentWriteQueue;
 import sh.harold.fulcrum.plugin.economy.EconomyModule;
 import sh.harold.fulcrum.plugin.perk.PerkCommand;
 
@@ -35,6 +36,7 @@ public final class UnlockableModule implements FulcrumModule {
     private CrawlManager crawlManager;
     private CosmeticPriceDropRefund cosmeticPriceDropRefund;
     private StatusLineService statusLineService;
+    private ParticleTrailEngine particleTrailEngine;
 
     public UnlockableModule(JavaPlugin plugin, DataModule dataModule, EconomyModule economyModule) {
         this.plugin = Objects.requireNonNull(plugin, "plugin");
@@ -58,8 +60,11 @@ public final class UnlockableModule implements FulcrumModule {
         cosmeticRegistry = new CosmeticRegistry();
         UnlockableCatalog.registerDefaults(registry, cosmeticRegistry);
         cooldownRegistry = new InMemoryCooldownRegistry();
+        DocumentWriteQueue playerWrites = dataModule.playerWrites()
+            .orElseThrow(() -> new IllegalStateException("Player write queue not available"));
         unlockableService = new UnlockableService(
             dataApi,
+            playerWrites,
             registry,
             cosmeticRegistry,
             cooldownRegistry,
@@ -74,6 +79,9 @@ public final class UnlockableModule implements FulcrumModule {
         statusLineService = new StatusLineService(plugin, unlockableService, cosmeticRegistry, plugin.getLogger());
         pluginManager.registerEvents(statusLineService, plugin);
         statusLineService.start();
+        particleTrailEngine = new ParticleTrailEngine(plugin, unlockableService, cosmeticRegistry, plugin.getLogger());
+        pluginManager.registerEvents(particleTrailEngine, plugin);
+        particleTrailEngine.start();
         plugin.getLifecycleManager().registerEventHandler(LifecycleEvents.COMMANDS, this::registerCommands);
         economyModule.economyService().ifPresent(economyService -> {
             //TODO: REMOVE after cosmetic price-drop refunds finish.
@@ -97,6 +105,9 @@ public final class UnlockableModule implements FulcrumModule {
         if (statusLineService != null) {
             statusLineService.shutdown();
         }
+        if (particleTrailEngine != null) {
+            particleTrailEngine.shutdown();
+        }
         return FulcrumModule.super.disable();
     }
 
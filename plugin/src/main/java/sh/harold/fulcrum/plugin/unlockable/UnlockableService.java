@@ -3,6 +3,7 @@ package sh.harold.fulcrum.plugin.unlockable;
 import sh.harold.fulcrum.common.data.DataApi;
 import sh.harold.fulcrum.common.data.Document;
 import sh.harold.fulcrum.common.data.DocumentCollection;
+import sh.harold.fulcrum.plugin.data.DocumentWriteQueue;
 import sh.harold.fulcrum.plugin.economy.EconomyService;
 import sh.harold.fulcrum.plugin.economy.MoneyChange;
 
@@ -10,6 +11,7 @@ import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -20,7 +22,9 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Supplier;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import sh.harold.fulcrum.common.cooldown.CooldownAcquisition;
@@ -39,13 +43,16 @@ public final class UnlockableService {
     private final UnlockableRegistry registry;
     private final CosmeticRegistry cosmeticRegistry;
     private final DocumentCollection players;
+    private final DocumentWriteQueue writes;
     private final Map<UUID, PlayerUnlockableState> stateCache = new ConcurrentHashMap<>();
+    private final List<StateListener> listeners = new CopyOnWriteArrayList<>();
     private final CooldownRegistry cooldownRegistry;
     private final Supplier<Optional<EconomyService>> economySupplier;
     private final Logger logger;
 
     public UnlockableService(
         DataApi dataApi,
+        DocumentWriteQueue writes,
         UnlockableRegistry registry,
         CosmeticRegistry cosmeticRegistry,
         CooldownRegistry cooldownRegistry,
@@ -59,6 +66,7 @@ public final class UnlockableService {
         this.economySupplier = Objects.requireNonNull(economySupplier, "economySupplier");
         this.logger = Objects.requireNonNull(logger, "logger");
         this.players = dataApi.collection("players");
+        this.writes = Objects.requireNonNull(writes, "writes");
     }
 
     public CompletionStage<PlayerUnlockableState> loadState(UUID playerId) {
@@ -67,10 +75,11 @@ public final class UnlockableService {
         if (cached != null) {
             return CompletableFuture.completedFuture(cached);
         }
-        return players.load(playerId.toString())
+        return loadDocument(playerId)
             .thenApply(this::buildState)
             .thenApply(state -> {
                 stateCache.put(playerId, state);
+                notifyListeners(playerId, state);
                 return state;
             })
             .exceptionally(throwable -> {
@@ -78,6 +87,20 @@ public final class UnlockableService {
             });
     }
 
+    public void addListener(StateListener listener) {
+        if (listener == null) {
+            return;
+        }
+        listeners.add(listener);
+    }
+
+    public void removeListener(StateListener listener) {
+        if (listener == null) {
+            return;
+        }
+        listeners.remove(listener);
+    }
+
     public Optional<PlayerUnlockableState> cachedState(UUID playerId) {
         return Optional.ofNullable(stateCache.get(Objects.requireNonNull(playerId, "playerId")));
     }
@@ -110,7 +133,7 @@ public final class UnlockableService {
     public CompletionStage<PlayerUnlockable> unlockNextTier(UUID playerId, UnlockableId unlockableId) {
         Objects.requireNonNull(playerId, "playerId");
         UnlockableDefinition definition = requireDefinition(unlockableId);
-        return players.load(playerId.toString())
+        return loadDocument(playerId)
             .thenCompose(document -> {
                 PlayerUnlockable current = resolveUnlockable(document, definition);
                 int nextTier = Math.min(current.tier() + 1, definition.maxTier());
@@ -132,7 +155,7 @@ public final class UnlockableService {
         }
         UnlockableDefinition definition = requireDefinition(unlockableId);
         int clampedTier = Math.min(targetTier, definition.maxTier());
-        return players.load(playerId.toString())
+        return loadDocument(playerId)
             .thenCompose(document -> {
                 PlayerUnlockable current = resolveUnlockable(document, definition);
                 int nextTier = Math.max(current.tier(), clampedTier);
@@ -151,7 +174,7 @@ public final class UnlockableService {
         Objects.requireNonNull(playerId, "playerId");
         UnlockableDefinition definition = requireDefinition(unlockableId);
         return enforceToggleCooldown(playerId)
-            .thenCompose(ignored -> players.load(playerId.toString()))
+            .thenCompose(ignored -> loadDocument(playerId))
             .thenCompose(document -> {
                 PlayerUnlockable current = resolveUnlockable(document, definition);
                 if (!current.unlocked()) {
@@ -172,7 +195,7 @@ public final class UnlockableService {
         Objects.requireNonNull(playerId, "playerId");
         UnlockableDefinition definition = requireDefinition(unlockableId);
         return enforceToggleCooldown(playerId)
-            .thenCompose(ignored -> players.load(playerId.toString()))
+            .thenCompose(ignored -> loadDocument(playerId))
             .thenCompose(document -> {
                 PlayerUnlockable current = resolveUnlockable(document, definition);
                 if (!current.unlocked()) {
@@ -204,13 +227,13 @@ public final class UnlockableService {
         if (definition.type() != UnlockableType.COSMETIC) {
             throw new IllegalArgumentException("Unlockable " + cosmeticId + " is not a cosmetic");
         }
-        return players.load(playerId.toString())
-            .thenCompose(document -> {
-                PlayerUnlockable unlocked = resolveUnlockable(document, definition);
-                if (!unlocked.unlocked()) {
+        return loadState(playerId)
+            .thenCompose(state -> {
+                boolean unlocked = state.unlockable(definition.id()).map(PlayerUnlockable::unlocked).orElse(false);
+                if (!unlocked) {
                     return CompletableFuture.failedFuture(new UnlockableOperationException("Cosmetic is locked: " + cosmeticId));
                 }
-                return persistCosmetic(document, playerId, section, Optional.of(cosmeticId));
+                return CompletableFuture.completedFuture(persistCosmetic(state, playerId, section, Optional.of(cosmeticId)));
             })
             .exceptionally(throwable -> {
                 throw new CompletionException("Failed to equip cosmetic " + cosmeticId + " for " + playerId, throwable);
@@ -220,8 +243,8 @@ public final class UnlockableService {
     public CompletionStage<PlayerUnlockableState> clearCosmetic(UUID playerId, CosmeticSection section) {
         Objects.requireNonNull(playerId, "playerId");
         Objects.requireNonNull(section, "section");
-        return players.load(playerId.toString())
-            .thenCompose(document -> persistCosmetic(document, playerId, section, Optional.empty()))
+        return loadState(playerId)
+            .thenApply(state -> persistCosmetic(state, playerId, section, Optional.empty()))
             .exceptionally(throwable -> {
                 throw new CompletionException("Failed to clear cosmetic for " + section + " (" + playerId + ")", throwable);
             });
@@ -230,8 +253,8 @@ public final class UnlockableService {
     public CompletionStage<PlayerUnlockableState> removeActionCosmetic(UUID playerId, UnlockableId cosmeticId) {
         Objects.requireNonNull(playerId, "playerId");
         Objects.requireNonNull(cosmeticId, "cosmeticId");
-        return players.load(playerId.toString())
-            .thenCompose(document -> persistActionUpdate(document, playerId, cosmeticId, false))
+        return loadState(playerId)
+            .thenApply(state -> persistActionUpdate(state, playerId, cosmeticId, false))
             .exceptionally(throwable -> {
                 throw new CompletionException("Failed to remove action cosmetic " + cosmeticId + " for " + playerId, throwable);
             });
@@ -309,54 +332,73 @@ public final class UnlockableService {
             .thenApply(ignored -> cacheState(playerId, document).unlockable(definition.id()).orElse(updated));
     }
 
-    private CompletionStage<PlayerUnlockableState> persistCosmetic(
-        Document document,
+    /**
+     * Loadout changes are applied to the cached state and queued, so rapid equip/unequip clicks share one write.
+     */
+    private PlayerUnlockableState persistCosmetic(
+        PlayerUnlockableState state,
         UUID playerId,
         CosmeticSection section,
         Optional<UnlockableId> cosmeticId
     ) {
         if (section == CosmeticSection.ACTIONS) {
-            return persistActionUpdate(document, playerId, cosmeticId.orElse(null), cosmeticId.isPresent());
+            return persistActionUpdate(state, playerId, cosmeticId.orElse(null), cosmeticId.isPresent());
         }
-        sh.harold.fulcrum.plugin.data.DocumentPatch patch = new sh.harold.fulcrum.plugin.data.DocumentPatch();
+        Map<CosmeticSection, Set<UnlockableId>> equipped = new EnumMap<>(CosmeticSection.class);
+        equipped.putAll(state.cosmetics().equipped());
         if (cosmeticId.isPresent()) {
-            patch.set(cosmeticPath(section), cosmeticId.get().value());
+            equipped.put(section, Set.of(cosmeticId.get()));
+            writes.set(playerId.toString(), cosmeticPath(section), cosmeticId.get().value());
         } else {
-            patch.remove(cosmeticPath(section));
+            equipped.remove(section);
+            writes.remove(playerId.toString(), cosmeticPath(section));
         }
-        return patch.apply(document).thenApply(ignored -> cacheState(playerId, document));
+        return cacheLoadout(playerId, state, equipped);
     }
 
-    private CompletionStage<PlayerUnlockableState> persistActionUpdate(
-        Document document,
+    private PlayerUnlockableState persistActionUpdate(
+        PlayerUnlockableState state,
         UUID playerId,
         UnlockableId cosmeticId,
         boolean add
     ) {
-        Map<String, Boolean> current = new LinkedHashMap<>();
-        Object raw = document.get(cosmeticPath(CosmeticSection.ACTIONS), Object.class).orElse(null);
-        if (raw instanceof String single) {
-            current.put(single, true);
-        } else if (raw instanceof List<?> list) {
-            list.stream().filter(String.class::isInstance).map(String.class::cast).forEach(id -> current.put(id, true));
-        }
+        Set<UnlockableId> current = new LinkedHashSet<>(state.cosmetics().equippedAll(CosmeticSection.ACTIONS));
         if (cosmeticId != null) {
             if (add) {
-                current.put(cosmeticId.value(), true);
+                current.add(cosmeticId);
             } else {
-                current.remove(cosmeticId.value());
+                current.remove(cosmeticId);
             }
         } else if (!add) {
             current.clear();
         }
-        List<String> updated = new ArrayList<>(current.keySet());
-        sh.harold.fulcrum.plugin.data.DocumentPatch patch = new sh.harold.fulcrum.plugin.data.DocumentPatch();
-        if (updated.isEmpty()) {
-            patch.remove(cosmeticPath(CosmeticSection.ACTIONS));
+        Map<CosmeticSection, Set<UnlockableId>> equipped = new EnumMap<>(CosmeticSection.class);
+        equipped.putAll(state.cosmetics().equipped());
+        if (current.isEmpty()) {
+            equipped.remove(CosmeticSection.ACTIONS);
+            writes.remove(playerId.toString(), cosmeticPath(CosmeticSection.ACTIONS));
         } else {
-            patch.set(cosmeticPath(CosmeticSection.ACTIONS), updated);
+            equipped.put(CosmeticSection.ACTIONS, current);
+            List<String> updated = current.stream().map(UnlockableId::value).toList();
+            writes.set(playerId.toString(), cosmeticPath(CosmeticSection.ACTIONS), updated);
         }
-        return patch.apply(document).thenApply(ignored -> cacheState(playerId, document));
+        return cacheLoadout(playerId, state, equipped);
+    }
+
+    private PlayerUnlockableState cacheLoadout(
+        UUID playerId,
+        PlayerUnlockableState state,
+        Map<CosmeticSection, Set<UnlockableId>> equipped
+    ) {
+        PlayerUnlockableState updated = new PlayerUnlockableState(state.unlockables(), new PlayerCosmeticLoadout(equipped));
+        stateCache.put(playerId, updated);
+        notifyListeners(playerId, updated);
+        return updated;
+    }
+
+    private CompletionStage<Document> loadDocument(UUID playerId) {
+        return writes.flush(playerId.toString())
+            .thenCompose(ignored -> players.load(playerId.toString()));
     }
 
     private PlayerUnlockableState buildState(Document document) {
@@ -487,9 +529,20 @@ public final class UnlockableService {
     private PlayerUnlockableState cacheState(UUID playerId, Document document) {
         PlayerUnlockableState state = buildState(document);
         stateCache.put(playerId, state);
+        notifyListeners(playerId, state);
         return state;
     }
 
+    private void notifyListeners(UUID playerId, PlayerUnlockableState state) {
+        for (StateListener listener : listeners) {
+            try {
+                listener.onStateUpdated(playerId, state);
+            } catch (RuntimeException exception) {
+                logger.log(Level.WARNING, "Unlockable state listener failed for " + playerId, exception);
+            }
+        }
+    }
+
     private void logUnknownCategories(Map<?, ?> raw) {
         if (raw.isEmpty()) {
             return;
@@ -612,4 +665,9 @@ public final class UnlockableService {
                 throw cause instanceof CompletionException completionException ? completionException : new CompletionException(cause);
             });
     }
+
+    @FunctionalInterface
+    public interface StateListener {
+        void onStateUpdated(UUID playerId, PlayerUnlockableState state);
+    }
 }
@@ -0,0 +1,120 @@
+package sh.harold.fulcrum.plugin.data;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sh.harold.fulcrum.common.data.DocumentCollection;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Logger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentWriteQueueTest {
+
+    private static final String ID = "player";
+    private static final Duration NEVER_FIRES = Duration.ofHours(1);
+
+    @Mock
+    private DocumentCollection collection;
+
+    private DocumentWriteQueue queue() {
+        return new DocumentWriteQueue(collection, NEVER_FIRES, Logger.getLogger("DocumentWriteQueueTest"));
+    }
+
+    @Test
+    void lastWriteWinsWithinWindow() {
+        when(collection.patch(eq(ID), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        DocumentWriteQueue queue = queue();
+
+        queue.set(ID, "settings.a", 1);
+        queue.set(ID, "settings.a", 2);
+        queue.set(ID, "settings.b", true);
+        queue.flush(ID).toCompletableFuture().join();
+
+        verify(collection).patch(ID, Map.of("settings.a", 2, "settings.b", true), Set.of());
+    }
+
+    @Test
+    void removeAfterSetDropsTheSet() {
+        when(collection.patch(eq(ID), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        DocumentWriteQueue queue = queue();
+
+        queue.set(ID, "settings.a", 1);
+        queue.remove(ID, "settings.a");
+        queue.flush(ID).toCompletableFuture().join();
+
+        verify(collection).patch(ID, Map.of(), Set.of("settings.a"));
+    }
+
+    @Test
+    void setAfterRemoveDropsTheRemove() {
+        when(collection.patch(eq(ID), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        DocumentWriteQueue queue = queue();
+
+        queue.remove(ID, "settings.a");
+        queue.set(ID, "settings.a", 3);
+        queue.flush(ID).toCompletableFuture().join();
+
+        verify(collection).patch(ID, Map.of("settings.a", 3), Set.of());
+    }
+
+    @Test
+    void overlappingFlushesApplyInOrder() {
+        CompletableFuture<Void> first = new CompletableFuture<>();
+        when(collection.patch(eq(ID), any(), any()))
+            .thenReturn(first)
+            .thenReturn(CompletableFuture.completedFuture(null));
+        DocumentWriteQueue queue = queue();
+
+        CompletableFuture<Void> firstWrite = queue.set(ID, "settings.a", 1).toCompletableFuture();
+        queue.flush(ID);
+        CompletableFuture<Void> secondWrite = queue.set(ID, "settings.a", 2).toCompletableFuture();
+        CompletableFuture<Void> secondFlush = queue.flush(ID).toCompletableFuture();
+
+        verify(collection).patch(ID, Map.of("settings.a", 1), Set.of());
+        verify(collection, never()).patch(ID, Map.of("settings.a", 2), Set.of());
+        assertThat(secondFlush).isNotDone();
+
+        first.complete(null);
+
+        InOrder order = inOrder(collection);
+        order.verify(collection).patch(ID, Map.of("settings.a", 1), Set.of());
+        order.verify(collection).patch(ID, Map.of("settings.a", 2), Set.of());
+        assertThat(firstWrite).isCompleted();
+        assertThat(secondWrite).isCompleted();
+        assertThat(secondFlush).isCompleted();
+    }
+
+    @Test
+    void failedWriteFailsWritersButNotReaders() {
+        when(collection.patch(eq(ID), any(), any()))
+            .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("store down")))
+            .thenReturn(CompletableFuture.completedFuture(null));
+        DocumentWriteQueue queue = queue();
+
+        CompletableFuture<Void> failedWrite = queue.set(ID, "settings.a", 1).toCompletableFuture();
+        CompletableFuture<Void> read = queue.flush(ID).toCompletableFuture();
+
+        assertThat(failedWrite).isCompletedExceptionally();
+        assertThat(read).isCompleted();
+
+        CompletableFuture<Void> nextWrite = queue.set(ID, "settings.a", 2).toCompletableFuture();
+        queue.flush(ID).toCompletableFuture().join();
+
+        assertThat(nextWrite).isCompleted();
+        verify(collection).patch(ID, Map.of("settings.a", 2), Set.of());
+    }
+}
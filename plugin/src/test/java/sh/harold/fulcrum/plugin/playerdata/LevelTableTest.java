@@ -0,0 +1,56 @@
+package sh.harold.fulcrum.plugin.playerdata;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LevelTableTest {
+
+    private static final int MAX_LEVEL = 200;
+
+    private final LevelingCurve curve = LevelingCurve.addictive();
+    private final LevelTable table = new LevelTable(curve, MAX_LEVEL);
+
+    @Test
+    void zeroXpIsLevelZero() {
+        assertThat(table.progressFor(0L)).isEqualTo(curve.progressFor(0L, MAX_LEVEL));
+        assertThat(table.progressFor(0L).level()).isZero();
+    }
+
+    @Test
+    void negativeXpClampsToZero() {
+        assertThat(table.progressFor(-5L)).isEqualTo(curve.progressFor(-5L, MAX_LEVEL));
+    }
+
+    @Test
+    void matchesCurveAtAndJustBelowEveryThreshold() {
+        for (int level = 1; level <= MAX_LEVEL; level++) {
+            long threshold = table.totalXpForLevel(level);
+
+            assertThat(table.progressFor(threshold))
+                .as("at threshold of level %d", level)
+                .isEqualTo(curve.progressFor(threshold, MAX_LEVEL));
+            assertThat(table.progressFor(threshold).level()).isEqualTo(level);
+            assertThat(table.progressFor(threshold - 1))
+                .as("one below threshold of level %d", level)
+                .isEqualTo(curve.progressFor(threshold - 1, MAX_LEVEL));
+            assertThat(table.progressFor(threshold - 1).level()).isEqualTo(level - 1);
+        }
+    }
+
+    @Test
+    void capsAtMaxLevel() {
+        long cap = table.maxTotalXp();
+
+        assertThat(table.progressFor(cap)).isEqualTo(curve.progressFor(cap, MAX_LEVEL));
+        assertThat(table.progressFor(cap + 1_000_000L)).isEqualTo(curve.progressFor(cap + 1_000_000L, MAX_LEVEL));
+        assertThat(table.progressFor(cap + 1_000_000L).level()).isEqualTo(MAX_LEVEL);
+        assertThat(table.progressFor(cap).xpForNextLevel()).isZero();
+    }
+
+    @Test
+    void levelsOutsideTheTableClamp() {
+        assertThat(table.totalXpForLevel(-1)).isZero();
+        assertThat(table.totalXpForLevel(MAX_LEVEL + 10)).isEqualTo(table.maxTotalXp());
+    }
+}